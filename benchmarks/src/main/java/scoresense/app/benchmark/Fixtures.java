@@ -0,0 +1,120 @@
+package scoresense.app.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import scoresense.app.dto.LiveMatchResponse;
+import scoresense.app.dto.MatchEventResponse;
+import scoresense.app.dto.PlayerStatsResponse;
+import scoresense.app.model.Favorite;
+import scoresense.app.model.League;
+import scoresense.app.model.Match;
+import scoresense.app.model.Player;
+import scoresense.app.model.Team;
+import scoresense.app.model.User;
+
+// Entidades y DTOs en memoria (sin base de datos) para los benchmarks de mappers y JSON
+final class Fixtures {
+
+    static final String[] POSITIONS = {"GK", "DF", "MF", "FW"};
+    static final String[] NATIONALITIES = {"MX", "AR", "BR", "ES", "FR"};
+
+    private Fixtures() {
+    }
+
+    static Team team(long id) {
+        League league = new League();
+        league.setLeagueId(1L);
+        league.setName("Liga " + id % 4);
+        Team team = new Team();
+        team.setTeamId(id);
+        team.setName("Team " + id);
+        team.setCountry("MX");
+        team.setLeague(league);
+        return team;
+    }
+
+    static Player player(long id) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setName("Player " + id);
+        player.setPosition(POSITIONS[(int) (id % POSITIONS.length)]);
+        player.setAge(18 + (int) (id % 18));
+        player.setNationality(NATIONALITIES[(int) (id % NATIONALITIES.length)]);
+        player.setHeight(165 + (int) (id % 30));
+        player.setWeight(60 + (int) (id % 30));
+        player.setTeam(team(1 + id % 20));
+        return player;
+    }
+
+    static Match match(long id) {
+        Match match = new Match();
+        match.setMatchId(id);
+        match.setMatchDate(LocalDate.of(2025, 1, 1).plusDays(id % 300));
+        match.setHomeScore((int) (id % 4));
+        match.setAwayScore((int) (id % 3));
+        match.setStatus(Match.Status.FINISHED);
+        match.setHomeTeam(team(1 + id % 20));
+        match.setAwayTeam(team(1 + (id + 7) % 20));
+        return match;
+    }
+
+    static Favorite favorite(long id) {
+        User user = new User();
+        user.setUserId(1 + id % 100);
+        Favorite favorite = new Favorite();
+        favorite.setFavoriteId(id);
+        favorite.setUser(user);
+        favorite.setEntityType(id % 2 == 0 ? "team" : "player");
+        favorite.setEntityId(1 + id % 20);
+        return favorite;
+    }
+
+    static List<Player> players(int count) {
+        List<Player> players = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            players.add(player(id));
+        }
+        return players;
+    }
+
+    // Partido en vivo típico: 60 eventos y 30 jugadores con estadísticas
+    static LiveMatchResponse liveMatch() {
+        List<MatchEventResponse> events = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 5, 1, 20, 0);
+        for (int i = 0; i < 60; i++) {
+            events.add(MatchEventResponse.builder()
+                    .type(i % 5 == 0 ? "GOAL" : "YELLOW_CARD")
+                    .minute(i * 3 / 2)
+                    .playerId((long) (i % 30))
+                    .teamId(i % 2 == 0 ? 1L : 2L)
+                    .createdAt(start.plusMinutes(i))
+                    .build());
+        }
+        List<PlayerStatsResponse> stats = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            stats.add(PlayerStatsResponse.builder()
+                    .playerId(id)
+                    .matchId(1L)
+                    .goals((int) (id % 2))
+                    .assists(0)
+                    .yellowCards((int) (id % 3 == 0 ? 1 : 0))
+                    .redCards(0)
+                    .minutesPlayed(90)
+                    .build());
+        }
+        return LiveMatchResponse.builder()
+                .matchId(1L)
+                .status("LIVE")
+                .minute(89)
+                .homeTeamId(1L)
+                .awayTeamId(2L)
+                .homeScore(3)
+                .awayScore(2)
+                .events(events)
+                .playerStats(stats)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package scoresense.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import scoresense.app.dto.FavoriteResponse;
+import scoresense.app.dto.LiveMatchResponse;
+import scoresense.app.dto.MatchResponse;
+import scoresense.app.dto.PlayerResponse;
+import scoresense.app.mapper.FavoriteMapper;
+import scoresense.app.mapper.MatchMapper;
+import scoresense.app.mapper.PlayerMapper;
+
+// Serialización JSON de los DTOs de respuesta con la misma configuración de Jackson que Spring Boot
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int PAGE = 100;
+
+    private ObjectMapper objectMapper;
+    private List<PlayerResponse> players;
+    private List<MatchResponse> matches;
+    private List<FavoriteResponse> favorites;
+    private LiveMatchResponse liveMatch;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        players = Fixtures.players(PAGE).stream().map(PlayerMapper::toResponse).toList();
+        matches = LongStream.rangeClosed(1, PAGE)
+                .mapToObj(id -> MatchMapper.toResponse(Fixtures.match(id))).toList();
+        favorites = LongStream.rangeClosed(1, PAGE)
+                .mapToObj(id -> FavoriteMapper.toResponse(Fixtures.favorite(id))).toList();
+        liveMatch = Fixtures.liveMatch();
+    }
+
+    @Benchmark
+    public byte[] playerPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(players);
+    }
+
+    @Benchmark
+    public byte[] matchPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(matches);
+    }
+
+    @Benchmark
+    public byte[] favoritePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(favorites);
+    }
+
+    @Benchmark
+    public byte[] liveMatchState() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(liveMatch);
+    }
+}
@@ -0,0 +1,68 @@
+package scoresense.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import scoresense.app.dto.FavoriteResponse;
+import scoresense.app.dto.MatchResponse;
+import scoresense.app.dto.PlayerResponse;
+import scoresense.app.mapper.FavoriteMapper;
+import scoresense.app.mapper.MatchMapper;
+import scoresense.app.mapper.PlayerMapper;
+import scoresense.app.model.Favorite;
+import scoresense.app.model.Match;
+import scoresense.app.model.Player;
+
+// Costo de convertir entidades a DTOs de respuesta (por elemento y para una lista de 1000)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private Player player;
+    private Match match;
+    private Favorite favorite;
+    private List<Player> players;
+
+    @Setup
+    public void setUp() {
+        player = Fixtures.player(7);
+        match = Fixtures.match(7);
+        favorite = Fixtures.favorite(7);
+        players = Fixtures.players(1000);
+    }
+
+    @Benchmark
+    public PlayerResponse playerToResponse() {
+        return PlayerMapper.toResponse(player);
+    }
+
+    @Benchmark
+    public MatchResponse matchToResponse() {
+        return MatchMapper.toResponse(match);
+    }
+
+    @Benchmark
+    public FavoriteResponse favoriteToResponse() {
+        return FavoriteMapper.toResponse(favorite);
+    }
+
+    @Benchmark
+    public List<PlayerResponse> playerListToResponse() {
+        return players.stream().map(PlayerMapper::toResponse).toList();
+    }
+}
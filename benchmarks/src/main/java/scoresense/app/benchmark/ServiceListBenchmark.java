@@ -0,0 +1,165 @@
+package scoresense.app.benchmark;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import scoresense.app.AppApplication;
+import scoresense.app.dto.FavoriteResponse;
+import scoresense.app.dto.MatchResponse;
+import scoresense.app.dto.PlayerResponse;
+import scoresense.app.dto.TeamResponse;
+import scoresense.app.service.FavoriteService;
+import scoresense.app.service.MatchService;
+import scoresense.app.service.PlayerService;
+import scoresense.app.service.TeamService;
+
+// Métodos de listado de los servicios contra una H2 en memoria sembrada (modo PostgreSQL).
+// Mide el camino completo servicio -> repositorio -> Hibernate -> mapper, sin la capa HTTP.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceListBenchmark {
+
+    private static final int TEAMS = 20;
+    private static final int PLAYERS = 2000;
+    private static final int MATCHES = 1000;
+    private static final int USERS = 100;
+    private static final int FAVORITES = 2000;
+
+    private ConfigurableApplicationContext context;
+    private PlayerService playerService;
+    private MatchService matchService;
+    private FavoriteService favoriteService;
+    private TeamService teamService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                // Como argumentos de línea de comandos para que prevalezcan sobre application.properties
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        // URL absoluta: desde el hilo de JMH Hibernate no resuelve "classpath:ehcache.xml"
+                        "--spring.jpa.properties.hibernate.javax.cache.uri="
+                                + ServiceListBenchmark.class.getClassLoader().getResource("ehcache.xml"));
+        seed(context.getBean(JdbcTemplate.class));
+        playerService = context.getBean(PlayerService.class);
+        matchService = context.getBean(MatchService.class);
+        favoriteService = context.getBean(FavoriteService.class);
+        teamService = context.getBean(TeamService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PlayerResponse> playersGetAll() {
+        return playerService.getAll();
+    }
+
+    @Benchmark
+    public List<PlayerResponse> playersByNationality() {
+        return playerService.findByNationality("MX");
+    }
+
+    @Benchmark
+    public List<TeamResponse> teamsGetAll() {
+        return teamService.getAll();
+    }
+
+    @Benchmark
+    public Page<MatchResponse> matchesFirstPage() {
+        return matchService.getAllPaged(PageRequest.of(0, 50));
+    }
+
+    @Benchmark
+    public List<FavoriteResponse> favoritesGetAll() {
+        return favoriteService.getAll();
+    }
+
+    @Benchmark
+    public Page<FavoriteResponse> teamFollowersFirstPage() {
+        return favoriteService.findFollowers("team", 1L, PageRequest.of(0, 50));
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO leagues (name, country, season, level) VALUES ('Liga Bench', 'Mexico', '2025', 'Primera')");
+        jdbc.batchUpdate("INSERT INTO teams (name, country, founded_year, stadium, league_id) VALUES (?, 'Mexico', 1990, ?, 1)",
+                range(TEAMS), TEAMS, (ps, i) -> {
+                    ps.setString(1, "Team " + i);
+                    ps.setString(2, "Stadium " + i);
+                });
+        jdbc.batchUpdate("INSERT INTO players (name, position, age, nationality, height, weight, team_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", range(PLAYERS), 500, (ps, i) -> {
+                    ps.setString(1, "Player " + i);
+                    ps.setString(2, Fixtures.POSITIONS[i % Fixtures.POSITIONS.length]);
+                    ps.setInt(3, 18 + i % 18);
+                    ps.setString(4, Fixtures.NATIONALITIES[i % Fixtures.NATIONALITIES.length]);
+                    ps.setInt(5, 165 + i % 30);
+                    ps.setInt(6, 60 + i % 30);
+                    ps.setLong(7, 1 + i % TEAMS);
+                });
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        jdbc.batchUpdate("INSERT INTO matches (match_date, home_team, away_team, home_score, away_score, status) "
+                + "VALUES (?, ?, ?, ?, ?, 'FINISHED')", range(MATCHES), 500, (ps, i) -> {
+                    ps.setDate(1, Date.valueOf(start.plusDays(i % 300)));
+                    ps.setLong(2, 1 + i % TEAMS);
+                    ps.setLong(3, 1 + (i + 7) % TEAMS);
+                    ps.setInt(4, i % 4);
+                    ps.setInt(5, i % 3);
+                });
+        jdbc.update("INSERT INTO roles (name, description) VALUES ('USER', 'bench')");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbc.batchUpdate("INSERT INTO users (username, email, password_hash, created_at, role_id) VALUES (?, ?, 'x', ?, 1)",
+                range(USERS), USERS, (ps, i) -> {
+                    ps.setString(1, "fan" + i);
+                    ps.setString(2, "fan" + i + "@bench.local");
+                    ps.setTimestamp(3, now);
+                });
+        jdbc.batchUpdate("INSERT INTO favorites (user_id, entity_type, entity_id) VALUES (?, ?, ?)",
+                range(FAVORITES), 500, (ps, i) -> {
+                    ps.setLong(1, 1 + i % USERS);
+                    ps.setString(2, i % 2 == 0 ? "team" : "player");
+                    ps.setLong(3, 1 + i % TEAMS);
+                });
+    }
+
+    private static List<Integer> range(int count) {
+        return IntStream.range(0, count).boxed().toList();
+    }
+}
@@ -0,0 +1,104 @@
+package scoresense.app.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+// Escribe filas en formato texto de COPY (tabuladores, \N para NULL) y las envía por bloques de 64 KB
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 64 * 1024;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 1024);
+    private boolean rowStart = true;
+
+    CopyWriter(Connection connection, String table, String columns) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN");
+    }
+
+    CopyWriter add(long value) {
+        separator().append(value);
+        return this;
+    }
+
+    CopyWriter add(String value) {
+        if (value == null) {
+            return addNull();
+        }
+        separator();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+        return this;
+    }
+
+    CopyWriter add(LocalDate value) {
+        separator().append(value);
+        return this;
+    }
+
+    CopyWriter add(LocalDateTime value) {
+        separator();
+        TIMESTAMP.formatTo(value, buffer);
+        return this;
+    }
+
+    CopyWriter addNull() {
+        separator().append("\\N");
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        rowStart = true;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    // Devuelve las filas que PostgreSQL confirma haber cargado
+    long finish() throws SQLException {
+        flush();
+        return copyIn.endCopy();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private StringBuilder separator() {
+        if (!rowStart) {
+            buffer.append('\t');
+        }
+        rowStart = false;
+        return buffer;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
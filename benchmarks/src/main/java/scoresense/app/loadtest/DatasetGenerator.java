@@ -0,0 +1,555 @@
+package scoresense.app.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// Genera un dataset sintético reproducible (misma semilla = mismos datos) en PostgreSQL con COPY.
+// El esquema debe existir (arrancar la aplicación una vez contra la base con ddl-auto=update).
+// Volúmenes con --scale=1: 1.3 M player_stats, 2 M poll_vote, 2 M sentiments, 1 M favorites;
+// cada uno se puede fijar con su propia opción. La actividad sigue distribuciones de Zipf
+// (pocos equipos, jugadores, encuestas y usuarios concentran la mayoría de las filas).
+// Al terminar escribe un manifiesto con los rangos de IDs y credenciales para LoadScenario.
+//
+//   mvn -f benchmarks/pom.xml compile exec:java@dataset -Ddataset.args="--reset --scale=1"
+public final class DatasetGenerator {
+
+    static final String LOAD_USER_PREFIX = "loadadmin";
+    static final String LOAD_PASSWORD = "loadtest";
+    static final String SEASON = "2025";
+
+    private static final String[] COUNTRIES = {"Mexico", "Spain", "England", "Italy", "Germany", "France",
+        "Argentina", "Brazil", "Portugal", "Netherlands"};
+    private static final String[] NATIONALITIES = {"MX", "ES", "EN", "IT", "DE", "FR", "AR", "BR", "PT", "NL",
+        "US", "CO", "UY", "BE", "HR"};
+    private static final String[] SOURCES = {"twitter", "reddit", "facebook", "news", "forum"};
+    private static final double[] SOURCE_WEIGHTS = {0.50, 0.20, 0.15, 0.10, 0.05};
+    private static final String[] COMMENTS = {"Gran partido", "Qué mal arbitraje", "Vamos equipo",
+        "Hay que cambiar al técnico", "Golazo", "Sin ideas en el medio", "Campeones"};
+    private static final int SQUAD = 25;
+    // Titulares por posición en la plantilla: 0-2 porteros, 3-10 defensas, 11-18 medios, 19-24 delanteros
+    private static final int[] STARTERS = {0, 3, 4, 5, 6, 11, 12, 13, 14, 19, 20};
+
+    private final Options options;
+    private final SplittableRandom random;
+    private final long seed;
+    private final Properties manifest = new Properties();
+
+    private DatasetGenerator(Options options) {
+        this.options = options;
+        this.seed = options.getLong("seed", 42);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        String url = options.get("url", "jdbc:postgresql://localhost:5432/scoresense_db");
+        try (Connection connection = DriverManager.getConnection(url, options.get("user", "postgres"),
+                options.get("password", "123456789"))) {
+            connection.setAutoCommit(true);
+            new DatasetGenerator(options).generate(connection);
+        }
+    }
+
+    private void generate(Connection connection) throws SQLException, IOException {
+        double scale = options.getDouble("scale", 1.0);
+        int leagues = options.getInt("leagues", 20);
+        int teamsPerLeague = options.getInt("teams-per-league", 20);
+        int matches = options.getInt("matches", scaled(50_000, scale));
+        int users = options.getInt("users", scaled(200_000, scale));
+        int polls = options.getInt("polls", Math.max(1, scaled(1_000, scale)));
+        long votes = options.getLong("poll-votes", scaled(2_000_000, scale));
+        long sentiments = options.getLong("sentiments", scaled(2_000_000, scale));
+        long favorites = options.getLong("favorites", scaled(1_000_000, scale));
+        int loadUsers = options.getInt("load-users", 50);
+
+        long started = System.nanoTime();
+        if (options.getBoolean("reset")) {
+            reset(connection);
+        }
+        long[] roles = ensureRoles(connection);
+        long[] leagueIds = loadLeagues(connection, leagues);
+        long[] teamIds = loadTeams(connection, leagueIds, teamsPerLeague);
+        long[] playerIds = loadPlayers(connection, teamIds);
+        long[] refereeIds = loadReferees(connection, 200);
+        MatchPlan plan = planMatches(matches, leagueIds.length, teamsPerLeague);
+        long[] matchIds = loadMatches(connection, plan, teamIds, refereeIds);
+        loadPlayerStats(connection, plan, matchIds, playerIds);
+        long[] userIds = loadUsers(connection, users, roles[1]);
+        loadLoadUsers(connection, loadUsers, roles[0]);
+        long[] pollIds = loadPolls(connection, polls);
+        loadPollVotes(connection, votes, pollIds, userIds);
+        loadSentiments(connection, sentiments, teamIds);
+        loadFavorites(connection, favorites, userIds, teamIds, playerIds);
+        analyze(connection);
+
+        manifest.setProperty("seed", Long.toString(seed));
+        manifest.setProperty("season", SEASON);
+        manifest.setProperty("nationalities", String.join(",", NATIONALITIES));
+        manifest.setProperty("load.user.prefix", LOAD_USER_PREFIX);
+        manifest.setProperty("load.user.count", Integer.toString(loadUsers));
+        manifest.setProperty("load.password", LOAD_PASSWORD);
+        range("leagues", leagueIds);
+        range("teams", teamIds);
+        range("players", playerIds);
+        range("matches", matchIds);
+        range("users", userIds);
+        range("polls", pollIds);
+        Path path = Path.of(options.get("manifest", "target/dataset.properties"));
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            manifest.store(out, "ScoreSense synthetic dataset");
+        }
+        System.out.printf("Dataset ready in %.1f s, manifest: %s%n", (System.nanoTime() - started) / 1e9,
+                path.toAbsolutePath());
+    }
+
+    // --- TABLAS DE REFERENCIA ---
+    private void reset(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("TRUNCATE leagues, teams, players, referee, matches, player_stats, match_events, users, "
+                    + "poll, poll_vote, sentiments, favorites RESTART IDENTITY CASCADE");
+        }
+        System.out.println("reset: generated tables truncated");
+    }
+
+    private long[] ensureRoles(Connection connection) throws SQLException {
+        long[] ids = new long[2];
+        String[] names = {"ADMIN", "USER"};
+        for (int i = 0; i < names.length; i++) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO roles (name, description) SELECT ?, ? WHERE NOT EXISTS "
+                            + "(SELECT 1 FROM roles WHERE name = ?)")) {
+                ps.setString(1, names[i]);
+                ps.setString(2, "Generated for load testing");
+                ps.setString(3, names[i]);
+                ps.executeUpdate();
+            }
+            try (PreparedStatement ps = connection.prepareStatement("SELECT role_id FROM roles WHERE name = ?")) {
+                ps.setString(1, names[i]);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    ids[i] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long[] loadLeagues(Connection connection, int count) throws SQLException {
+        long base = maxId(connection, "leagues", "league_id");
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "leagues", "name, country, season, level")) {
+            for (int i = 0; i < count; i++) {
+                copy.add("Liga " + (base + i + 1)).add(COUNTRIES[i % COUNTRIES.length]).add(SEASON)
+                        .add(i < COUNTRIES.length ? "First Division" : "Second Division").endRow();
+            }
+            report("leagues", copy.finish(), start);
+        }
+        return newIds(connection, "leagues", "league_id", base);
+    }
+
+    private long[] loadTeams(Connection connection, long[] leagueIds, int perLeague) throws SQLException {
+        long base = maxId(connection, "teams", "team_id");
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "teams",
+                "name, country, founded_year, stadium, league_id")) {
+            for (int l = 0; l < leagueIds.length; l++) {
+                for (int t = 0; t < perLeague; t++) {
+                    long n = base + (long) l * perLeague + t + 1;
+                    copy.add("Club " + n).add(COUNTRIES[l % COUNTRIES.length]).add(1880 + random.nextInt(130))
+                            .add("Estadio " + n).add(leagueIds[l]).endRow();
+                }
+            }
+            report("teams", copy.finish(), start);
+        }
+        return newIds(connection, "teams", "team_id", base);
+    }
+
+    // Plantillas de 25 en el orden de STARTERS; el jugador i pertenece al equipo i / 25
+    private long[] loadPlayers(Connection connection, long[] teamIds) throws SQLException {
+        long base = maxId(connection, "players", "player_id");
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "players",
+                "name, position, age, nationality, height, weight, team_id")) {
+            for (int t = 0; t < teamIds.length; t++) {
+                for (int slot = 0; slot < SQUAD; slot++) {
+                    long n = base + (long) t * SQUAD + slot + 1;
+                    copy.add("Player " + n).add(position(slot)).add(17 + random.nextInt(20))
+                            .add(NATIONALITIES[Math.min(random.nextInt(NATIONALITIES.length),
+                                    random.nextInt(NATIONALITIES.length))])
+                            .add(165 + random.nextInt(30)).add(60 + random.nextInt(30)).add(teamIds[t]).endRow();
+                }
+            }
+            report("players", copy.finish(), start);
+        }
+        return newIds(connection, "players", "player_id", base);
+    }
+
+    private long[] loadReferees(Connection connection, int count) throws SQLException {
+        long base = maxId(connection, "referee", "referee_id");
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "referee", "name, nationality, experience_years")) {
+            for (int i = 0; i < count; i++) {
+                copy.add("Referee " + (base + i + 1)).add(NATIONALITIES[i % NATIONALITIES.length])
+                        .add(1 + random.nextInt(25)).endRow();
+            }
+            report("referee", copy.finish(), start);
+        }
+        return newIds(connection, "referee", "referee_id", base);
+    }
+
+    // --- PARTIDOS Y ESTADÍSTICAS ---
+    // Se planean primero para que el marcador de matches coincida con los goles de player_stats
+    private MatchPlan planMatches(int count, int leagues, int perLeague) {
+        MatchPlan plan = new MatchPlan(count);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            int league = random.nextInt(leagues);
+            int home = random.nextInt(perLeague);
+            int away = (home + 1 + random.nextInt(perLeague - 1)) % perLeague;
+            plan.home[i] = league * perLeague + home;
+            plan.away[i] = league * perLeague + away;
+            // 5% programados a futuro, sin marcador ni estadísticas
+            if (random.nextInt(100) < 5) {
+                plan.date[i] = today.plusDays(1 + random.nextInt(60));
+                plan.homeGoals[i] = -1;
+                plan.awayGoals[i] = -1;
+            } else {
+                plan.date[i] = today.minusDays(1 + random.nextInt(3 * 365));
+                plan.homeGoals[i] = poisson(1.5);
+                plan.awayGoals[i] = poisson(1.1);
+            }
+        }
+        return plan;
+    }
+
+    private long[] loadMatches(Connection connection, MatchPlan plan, long[] teamIds, long[] refereeIds)
+            throws SQLException {
+        long base = maxId(connection, "matches", "match_id");
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "matches",
+                "match_date, home_team, away_team, home_score, away_score, status, referee_id")) {
+            for (int i = 0; i < plan.date.length; i++) {
+                copy.add(plan.date[i]).add(teamIds[plan.home[i]]).add(teamIds[plan.away[i]]);
+                if (plan.homeGoals[i] < 0) {
+                    copy.addNull().addNull().add("SCHEDULED");
+                } else {
+                    copy.add(plan.homeGoals[i]).add(plan.awayGoals[i]).add("FINISHED");
+                }
+                copy.add(refereeIds[random.nextInt(refereeIds.length)]).endRow();
+            }
+            report("matches", copy.finish(), start);
+        }
+        return newIds(connection, "matches", "match_id", base);
+    }
+
+    private void loadPlayerStats(Connection connection, MatchPlan plan, long[] matchIds, long[] playerIds)
+            throws SQLException {
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "player_stats",
+                "goals, assists, yellow_cards, red_cards, minutes_played, player_id, match_id")) {
+            for (int i = 0; i < matchIds.length; i++) {
+                if (plan.homeGoals[i] < 0) {
+                    continue;
+                }
+                writeLineup(copy, plan.home[i], plan.homeGoals[i], matchIds[i], playerIds);
+                writeLineup(copy, plan.away[i], plan.awayGoals[i], matchIds[i], playerIds);
+            }
+            report("player_stats", copy.finish(), start);
+        }
+    }
+
+    // 11 titulares (a veces rota un suplente de la misma línea) y hasta 3 cambios
+    private void writeLineup(CopyWriter copy, int team, int goals, long matchId, long[] playerIds)
+            throws SQLException {
+        int[] slots = new int[14];
+        int[] minutes = new int[14];
+        boolean[] used = new boolean[SQUAD];
+        for (int s = 0; s < STARTERS.length; s++) {
+            int slot = STARTERS[s];
+            if (slot != 0 && random.nextInt(100) < 20) {
+                slot = Math.min(slot + 4, SQUAD - 1);
+            }
+            slots[s] = slot;
+            minutes[s] = 90;
+            used[slot] = true;
+        }
+        int onPitch = STARTERS.length;
+        int subs = random.nextInt(4);
+        for (int s = 0; s < subs; s++) {
+            int slot = 3 + random.nextInt(SQUAD - 3);
+            while (used[slot]) {
+                slot = slot == SQUAD - 1 ? 3 : slot + 1;
+            }
+            used[slot] = true;
+            int replaced = 1 + random.nextInt(STARTERS.length - 1);
+            int minute = 55 + random.nextInt(30);
+            minutes[replaced] = minute;
+            slots[onPitch] = slot;
+            minutes[onPitch] = 90 - minute;
+            onPitch++;
+        }
+        int[] goalsBy = new int[onPitch];
+        int[] assistsBy = new int[onPitch];
+        for (int g = 0; g < goals; g++) {
+            int scorer = weightedScorer(slots, onPitch);
+            goalsBy[scorer]++;
+            if (random.nextInt(100) < 70) {
+                assistsBy[(scorer + 1 + random.nextInt(onPitch - 1)) % onPitch]++;
+            }
+        }
+        for (int p = 0; p < onPitch; p++) {
+            int red = random.nextInt(1000) < 5 ? 1 : 0;
+            copy.add(goalsBy[p]).add(assistsBy[p]).add(random.nextInt(100) < 8 ? 1 : 0).add(red)
+                    .add(red == 1 ? Math.min(minutes[p], 30 + random.nextInt(60)) : minutes[p])
+                    .add(playerIds[team * SQUAD + slots[p]]).add(matchId).endRow();
+        }
+    }
+
+    private int weightedScorer(int[] slots, int onPitch) {
+        int total = 0;
+        for (int p = 0; p < onPitch; p++) {
+            total += scoringWeight(slots[p]);
+        }
+        int pick = random.nextInt(total);
+        for (int p = 0; p < onPitch; p++) {
+            pick -= scoringWeight(slots[p]);
+            if (pick < 0) {
+                return p;
+            }
+        }
+        return onPitch - 1;
+    }
+
+    // --- USUARIOS Y ACTIVIDAD ---
+    private long[] loadUsers(Connection connection, int count, long roleId) throws SQLException {
+        long base = maxId(connection, "users", "user_id");
+        String hash = new BCryptPasswordEncoder().encode(LOAD_PASSWORD);
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "users",
+                "username, email, password_hash, created_at, role_id")) {
+            for (int i = 0; i < count; i++) {
+                long n = base + i + 1;
+                copy.add("fan" + n).add("fan" + n + "@load.scoresense.test").add(hash)
+                        .add(now.minusMinutes(random.nextInt(2 * 365 * 24 * 60))).add(roleId).endRow();
+            }
+            report("users", copy.finish(), start);
+        }
+        return newIds(connection, "users", "user_id", base);
+    }
+
+    // Cuentas ADMIN para el escenario de carga (jugadores y partidos requieren ese rol)
+    private void loadLoadUsers(Connection connection, int count, long adminRoleId) throws SQLException {
+        String hash = new BCryptPasswordEncoder().encode(LOAD_PASSWORD);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO users (username, email, password_hash, created_at, role_id) "
+                        + "SELECT ?, ?, ?, now(), ? WHERE NOT EXISTS (SELECT 1 FROM users WHERE username = ?)")) {
+            for (int i = 1; i <= count; i++) {
+                String username = LOAD_USER_PREFIX + i;
+                ps.setString(1, username);
+                ps.setString(2, username + "@load.scoresense.test");
+                ps.setString(3, hash);
+                ps.setLong(4, adminRoleId);
+                ps.setString(5, username);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private long[] loadPolls(Connection connection, int count) throws SQLException {
+        long base = maxId(connection, "poll", "poll_id");
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "poll", "question, created_at, expires_at")) {
+            for (int i = 0; i < count; i++) {
+                LocalDateTime created = now.minusHours(random.nextInt(180 * 24));
+                copy.add("¿Quién gana la jornada " + (base + i + 1) + "?").add(created).add(created.plusDays(7))
+                        .endRow();
+            }
+            report("poll", copy.finish(), start);
+        }
+        return newIds(connection, "poll", "poll_id", base);
+    }
+
+    // poll_vote no tiene IDENTITY (secuencia poll_vote_seq con incremento 50): los IDs se asignan
+    // aquí y la secuencia se adelanta al final para no chocar con los que reserve Hibernate
+    private void loadPollVotes(Connection connection, long count, long[] pollIds, long[] userIds)
+            throws SQLException {
+        long base = maxId(connection, "poll_vote", "poll_vote_id");
+        Zipf polls = new Zipf(pollIds.length, 1.1, seed + 1);
+        Zipf voters = new Zipf(userIds.length, 0.6, seed + 2);
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "poll_vote",
+                "poll_vote_id, poll_id, user_id, option_selected, voted_at")) {
+            for (long i = 0; i < count; i++) {
+                int poll = polls.next(random);
+                // Cada encuesta tiene 2 a 4 opciones y la primera suele ganar
+                int options = 2 + poll % 3;
+                int option = Math.min(random.nextInt(options), random.nextInt(options));
+                copy.add(base + i + 1).add(pollIds[poll]).add(userIds[voters.next(random)])
+                        .add("Opción " + (option + 1)).add(now.minusMinutes(random.nextInt(180 * 24 * 60)))
+                        .endRow();
+            }
+            report("poll_vote", copy.finish(), start);
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("SELECT setval('poll_vote_seq', (SELECT COALESCE(MAX(poll_vote_id), 0) + 50 FROM poll_vote))");
+        }
+    }
+
+    private void loadSentiments(Connection connection, long count, long[] teamIds) throws SQLException {
+        Zipf teams = new Zipf(teamIds.length, 1.0, seed + 3);
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "sentiments",
+                "source, sentiment, comment, created_at, team_id")) {
+            for (long i = 0; i < count; i++) {
+                int roll = random.nextInt(100);
+                String sentiment = roll < 45 ? "positive" : roll < 75 ? "neutral" : "negative";
+                // 20% en las últimas 24 h (lo que reconstruye SentimentAggregationService), el resto en 90 días
+                LocalDateTime createdAt = random.nextInt(100) < 20
+                        ? now.minusSeconds(random.nextInt(24 * 3600))
+                        : now.minusMinutes(random.nextInt(90 * 24 * 60));
+                copy.add(SOURCES[weighted(SOURCE_WEIGHTS)]).add(sentiment)
+                        .add(random.nextInt(100) < 30 ? null : COMMENTS[random.nextInt(COMMENTS.length)])
+                        .add(createdAt).add(teamIds[teams.next(random)]).endRow();
+            }
+            report("sentiments", copy.finish(), start);
+        }
+    }
+
+    private void loadFavorites(Connection connection, long count, long[] userIds, long[] teamIds,
+            long[] playerIds) throws SQLException {
+        Zipf users = new Zipf(userIds.length, 0.5, seed + 4);
+        Zipf teams = new Zipf(teamIds.length, 1.2, seed + 5);
+        Zipf players = new Zipf(playerIds.length, 1.1, seed + 6);
+        long start = System.nanoTime();
+        try (CopyWriter copy = new CopyWriter(connection, "favorites", "user_id, entity_type, entity_id")) {
+            for (long i = 0; i < count; i++) {
+                copy.add(userIds[users.next(random)]);
+                if (random.nextInt(100) < 60) {
+                    copy.add("team").add(teamIds[teams.next(random)]);
+                } else {
+                    copy.add("player").add(playerIds[players.next(random)]);
+                }
+                copy.endRow();
+            }
+            report("favorites", copy.finish(), start);
+        }
+    }
+
+    private void analyze(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("ANALYZE");
+        }
+    }
+
+    // --- AUXILIARES ---
+    private static long maxId(Connection connection, String table, String column) throws SQLException {
+        try (Statement st = connection.createStatement();
+                ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    // IDs asignados por la carga (todo lo que supera el máximo previo), en orden de inserción
+    private static long[] newIds(Connection connection, String table, String column, long base)
+            throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT " + column + " FROM " + table + " WHERE " + column + " > ? ORDER BY " + column)) {
+            ps.setLong(1, base);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void range(String name, long[] ids) {
+        if (ids.length > 0) {
+            manifest.setProperty(name + ".min", Long.toString(ids[0]));
+            manifest.setProperty(name + ".max", Long.toString(ids[ids.length - 1]));
+        }
+    }
+
+    private static void report(String table, long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("%-13s %,12d rows  %6.1f s  %,10.0f rows/s%n", table, rows, seconds, rows / seconds);
+    }
+
+    private static int scaled(int base, double scale) {
+        return (int) Math.round(base * scale);
+    }
+
+    private static String position(int slot) {
+        return slot < 3 ? "Goalkeeper" : slot < 11 ? "Defender" : slot < 19 ? "Midfielder" : "Forward";
+    }
+
+    private static int scoringWeight(int slot) {
+        return slot < 3 ? 0 : slot < 11 ? 1 : slot < 19 ? 3 : 6;
+    }
+
+    private int poisson(double lambda) {
+        double limit = Math.exp(-lambda);
+        double product = random.nextDouble();
+        int k = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            k++;
+        }
+        return k;
+    }
+
+    private int weighted(double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static final class MatchPlan {
+
+        private final int[] home;
+        private final int[] away;
+        private final LocalDate[] date;
+        private final int[] homeGoals;
+        private final int[] awayGoals;
+
+        MatchPlan(int count) {
+            home = new int[count];
+            away = new int[count];
+            date = new LocalDate[count];
+            homeGoals = new int[count];
+            awayGoals = new int[count];
+        }
+    }
+}
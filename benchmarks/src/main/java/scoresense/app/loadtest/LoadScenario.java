@@ -0,0 +1,397 @@
+package scoresense.app.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Escenario de carga HTTP contra los endpoints REST y GraphQL sobre el dataset de DatasetGenerator.
+// Lazo cerrado: --concurrency trabajadores envían una petición tras otra durante --duration
+// (después de --warmup, que no se mide). Cada paso del escenario tiene un peso; los IDs se
+// eligen con Zipf como en el dataset, así la mayoría de las lecturas caen en los equipos y
+// encuestas populares. Reporta por paso: peticiones, errores, throughput y latencias p50/p90/p99.
+// --mix=votes compara en la misma corrida POST /api/poll-votes (INSERT por petición) con
+// POST /api/poll-votes/ingest (cola + lotes); al final agrega los contadores de la ingesta para
+// comprobar que los lotes alcanzaron a insertar lo aceptado.
+//
+//   mvn -f benchmarks/pom.xml compile exec:java@load -Dload.args="--concurrency=32 --duration=60s"
+//   mvn -f benchmarks/pom.xml compile exec:java@load -Dload.args="--mix=votes --duration=60s"
+public final class LoadScenario {
+
+    private final Options options;
+    private final Properties dataset;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Step> steps;
+    private final int totalWeight;
+
+    private LoadScenario(Options options, Properties dataset) {
+        this.options = options;
+        this.dataset = dataset;
+        this.baseUrl = options.get("base-url", "http://localhost:8080");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.steps = steps(options.get("mix", "all"));
+        this.totalWeight = steps.stream().mapToInt(Step::weight).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        Properties dataset = new Properties();
+        try (InputStream in = Files.newInputStream(Path.of(options.get("dataset", "target/dataset.properties")))) {
+            dataset.load(in);
+        }
+        new LoadScenario(options, dataset).run();
+    }
+
+    // --- ESCENARIO ---
+    private List<Step> steps(String mix) {
+        long seed = options.getLong("seed", 7);
+        Ids teams = ids("teams", 1.2, seed);
+        Ids leagues = ids("leagues", 0.8, seed + 1);
+        Ids players = ids("players", 1.1, seed + 2);
+        Ids polls = ids("polls", 1.1, seed + 3);
+        long userMin = Long.parseLong(dataset.getProperty("users.min"));
+        long userMax = Long.parseLong(dataset.getProperty("users.max"));
+        String[] nationalities = dataset.getProperty("nationalities").split(",");
+        String season = dataset.getProperty("season");
+
+        List<Step> rest = List.of(
+                get("players.page", 10, r -> "/api/players/paged?size=50&page=" + r.nextInt(20)),
+                get("players.cursor", 5, r -> "/api/players/paged/cursor?size=50"),
+                get("players.by-nationality", 5,
+                        r -> "/api/players/by-nationality?nationality=" + nationalities[r.nextInt(nationalities.length)]),
+                get("players.all", 1, r -> "/api/players"),
+                get("teams.all", 5, r -> "/api/teams"),
+                get("matches.page", 8, r -> "/api/matches/paged?size=50&page=" + r.nextInt(20)),
+                get("matches.all", 1, r -> "/api/matches"),
+                get("leagues.standings", 8, r -> "/api/leagues/" + leagues.next(r) + "/standings"),
+                get("favorites.followers", 10,
+                        r -> "/api/favorites/followers?entityType=team&size=50&entityId=" + teams.next(r)),
+                get("favorites.followers-count", 5,
+                        r -> "/api/favorites/followers/count?entityType=team&entityId=" + teams.next(r)),
+                get("polls.results", 10, r -> "/api/polls/" + polls.next(r) + "/results"),
+                get("sentiments.summary", 10, r -> "/api/sentiments/teams/" + teams.next(r) + "/summary?window=1h"),
+                get("player-stats.season-totals", 4,
+                        r -> "/api/player-stats/season-totals?size=20&season=" + season + "&page=" + r.nextInt(5)));
+        List<Step> graphql = List.of(
+                graphql("graphql.player-by-id", 5,
+                        r -> "{ playerById(id: " + players.next(r) + ") { playerId name position team { name } } }"),
+                graphql("graphql.players-by-nationality", 5,
+                        r -> "{ playersByNationality(nationality: \"" + nationalities[r.nextInt(nationalities.length)]
+                                + "\") { playerId name position } }"),
+                graphql("graphql.season-totals", 4,
+                        r -> "{ playerSeasonTotals(season: \"" + season + "\", page: " + r.nextInt(5)
+                                + ", size: 20) { playerId playerName goals assists goalsPer90 } }"));
+        // Mismo peso y mismo generador de votos: la única diferencia es el endpoint.
+        // Votantes uniformes entre todos los usuarios para que casi no haya votos repetidos.
+        Function<SplittableRandom, Map<String, Object>> vote = r -> {
+            long poll = polls.next(r);
+            return Map.of("pollId", poll, "userId", userMin + r.nextLong(userMax - userMin + 1),
+                    "voteOption", true, "optionSelected", "Opción " + (1 + r.nextInt(2 + (int) (poll % 3))));
+        };
+        List<Step> votes = List.of(
+                post("poll-votes.create", 1, "/api/poll-votes", vote),
+                post("poll-votes.ingest", 1, "/api/poll-votes/ingest", vote));
+        return switch (mix) {
+            case "rest" -> rest;
+            case "graphql" -> graphql;
+            case "votes" -> votes;
+            case "all" -> {
+                List<Step> all = new ArrayList<>(rest);
+                all.addAll(graphql);
+                yield all;
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unknown mix '" + mix + "', expected rest, graphql, all or votes");
+        };
+    }
+
+    private Step get(String name, int weight, Function<SplittableRandom, String> path) {
+        return new Step(name, weight, r -> HttpRequest.newBuilder(URI.create(baseUrl + path.apply(r))).GET());
+    }
+
+    private Step post(String name, int weight, String path, Function<SplittableRandom, Map<String, Object>> body) {
+        ObjectMapper json = new ObjectMapper();
+        return new Step(name, weight, r -> {
+            try {
+                return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body.apply(r))));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // Los errores de GraphQL llegan con 200 y un arreglo "errors" en el cuerpo
+    private Step graphql(String name, int weight, Function<SplittableRandom, String> query) {
+        ObjectMapper json = new ObjectMapper();
+        return new Step(name, weight, r -> {
+            try {
+                byte[] body = json.writeValueAsBytes(Map.of("query", query.apply(r)));
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/graphql"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // --- EJECUCIÓN ---
+    private void run() throws Exception {
+        int concurrency = options.getInt("concurrency", 32);
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(10));
+        Duration duration = options.getDuration("duration", Duration.ofSeconds(60));
+        String prefix = dataset.getProperty("load.user.prefix");
+        int loadUsers = Integer.parseInt(dataset.getProperty("load.user.count"));
+        String password = dataset.getProperty("load.password");
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        System.out.printf("Load: %d workers, warmup %s, duration %s, %d steps against %s%n", concurrency,
+                warmup, duration, steps.size(), baseUrl);
+
+        Worker[] workers = new Worker[concurrency];
+        Thread[] threads = new Thread[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            // Cada trabajador usa una cuenta distinta, como clientes independientes
+            String credentials = prefix + (1 + i % loadUsers) + ":" + password;
+            String authorization = "Basic " + Base64.getEncoder().encodeToString(
+                    credentials.getBytes(StandardCharsets.UTF_8));
+            workers[i] = new Worker(new SplittableRandom(options.getLong("seed", 7) * 31 + i), authorization,
+                    measureFrom, end);
+            threads[i] = new Thread(workers[i], "load-" + i);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        report(workers, duration, ingestionStats(workers[0].authorization));
+    }
+
+    // Contadores de /api/poll-votes/ingest/stats tras dejar que la cola termine de vaciarse
+    private Map<String, Object> ingestionStats(String authorization) throws Exception {
+        if (steps.stream().noneMatch(step -> step.name().equals("poll-votes.ingest"))) {
+            return null;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/poll-votes/ingest/stats"))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        ObjectMapper json = new ObjectMapper();
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        Map<String, Object> stats;
+        do {
+            Thread.sleep(500);
+            stats = json.readValue(client.send(request, HttpResponse.BodyHandlers.ofString()).body(),
+                    new TypeReference<Map<String, Object>>() {
+                    });
+        } while (((Number) stats.get("queued")).longValue() > 0 && System.nanoTime() < deadline);
+        System.out.printf("%nVote ingestion: %s%n", stats);
+        return stats;
+    }
+
+    private final class Worker implements Runnable {
+
+        private final SplittableRandom random;
+        private final String authorization;
+        private final long measureFrom;
+        private final long end;
+        private final StepStats[] stats = new StepStats[steps.size()];
+
+        Worker(SplittableRandom random, String authorization, long measureFrom, long end) {
+            this.random = random;
+            this.authorization = authorization;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            for (int i = 0; i < stats.length; i++) {
+                stats[i] = new StepStats();
+            }
+        }
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            while (now < end) {
+                int index = pick(random);
+                Step step = steps.get(index);
+                HttpRequest request = step.request().apply(random)
+                        .header("Authorization", authorization)
+                        .timeout(Duration.ofSeconds(30))
+                        .build();
+                int status;
+                try {
+                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    status = response.statusCode();
+                    if (status == 200 && request.uri().getPath().equals("/graphql")
+                            && response.body().contains("\"errors\"")) {
+                        status = 0;
+                    }
+                } catch (IOException e) {
+                    status = -1;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long done = System.nanoTime();
+                if (now >= measureFrom) {
+                    stats[index].record(done - now, status);
+                }
+                now = done;
+            }
+        }
+    }
+
+    private int pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (int i = 0; i < steps.size(); i++) {
+            roll -= steps.get(i).weight();
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return steps.size() - 1;
+    }
+
+    // --- REPORTE ---
+    private void report(Worker[] workers, Duration duration, Map<String, Object> ingestion) throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+        Map<String, Object> results = new LinkedHashMap<>();
+        StepStats total = new StepStats();
+        System.out.printf("%n%-34s %9s %7s %9s %9s %9s %9s %9s%n", "step", "requests", "errors", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (int i = 0; i < steps.size(); i++) {
+            StepStats merged = new StepStats();
+            for (Worker worker : workers) {
+                merged.merge(worker.stats[i]);
+            }
+            total.merge(merged);
+            results.put(steps.get(i).name(), merged.summary(seconds));
+            print(steps.get(i).name(), merged, seconds);
+        }
+        print("TOTAL", total, seconds);
+        results.put("total", total.summary(seconds));
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("base_url", baseUrl);
+        document.put("concurrency", workers.length);
+        document.put("duration_seconds", seconds);
+        document.put("dataset_seed", dataset.getProperty("seed"));
+        document.put("steps", results);
+        if (ingestion != null) {
+            document.put("vote_ingestion", ingestion);
+        }
+        Path path = Path.of(options.get("report", "target/load-report.json"));
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), document);
+        System.out.println("Report: " + path.toAbsolutePath());
+    }
+
+    private static void print(String name, StepStats stats, double seconds) {
+        long[] sorted = stats.sorted();
+        System.out.printf("%-34s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, stats.count, stats.errors,
+                stats.count / seconds, millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99),
+                millis(sorted, 1.0));
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private Ids ids(String name, double exponent, long seed) {
+        long min = Long.parseLong(dataset.getProperty(name + ".min"));
+        long max = Long.parseLong(dataset.getProperty(name + ".max"));
+        return new Ids(min, new Zipf((int) (max - min + 1), exponent, seed));
+    }
+
+    private record Ids(long min, Zipf zipf) {
+
+        long next(SplittableRandom random) {
+            return min + zipf.next(random);
+        }
+    }
+
+    private record Step(String name, int weight, Function<SplittableRandom, HttpRequest.Builder> request) {
+    }
+
+    // Latencias en nanosegundos de un paso (un arreglo por trabajador, sin contención)
+    private static final class StepStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private final Map<Integer, Integer> statuses = new LinkedHashMap<>();
+
+        void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status < 200 || status >= 300) {
+                errors++;
+                statuses.merge(status, 1, Integer::sum);
+            }
+        }
+
+        void merge(StepStats other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Integer::sum));
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        Map<String, Object> summary(double seconds) {
+            long[] sorted = sorted();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", count);
+            summary.put("errors", errors);
+            summary.put("throughput_rps", Math.round(count / seconds * 10) / 10.0);
+            summary.put("p50_ms", millis(sorted, 0.50));
+            summary.put("p90_ms", millis(sorted, 0.90));
+            summary.put("p99_ms", millis(sorted, 0.99));
+            summary.put("max_ms", millis(sorted, 1.0));
+            // -1 = error de conexión, 0 = respuesta GraphQL con "errors"
+            summary.put("error_statuses", statuses);
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package scoresense.app.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Muestreo con distribución de Zipf sobre n elementos: pocos equipos, encuestas o usuarios
+// concentran la mayor parte de la actividad. La CDF se precalcula y cada muestra es una
+// búsqueda binaria. El rango se permuta con la semilla para que los más populares no sean
+// siempre los primeros IDs.
+final class Zipf {
+
+    private final double[] cdf;
+    private final int[] permutation;
+
+    Zipf(int n, double exponent, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Zipf needs at least one element");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        permutation = new int[n];
+        for (int i = 0; i < n; i++) {
+            permutation[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = tmp;
+        }
+    }
+
+    // Índice en [0, n)
+    int next(SplittableRandom random) {
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return permutation[Math.min(rank, cdf.length - 1)];
+    }
+}
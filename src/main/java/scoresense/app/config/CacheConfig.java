@@ -0,0 +1,42 @@
+package scoresense.app.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+// Caché de datos de referencia (ligas, equipos, árbitros, roles) detrás de Spring Cache.
+// Caffeine acota por tamaño y expira por tiempo; el proxy transaccional aplica los
+// put/evict solo cuando la transacción confirma, así no se cachea un valor que se revierte.
+// Para cambiar de proveedor basta con reemplazar este CacheManager.
+// USERS (UserDetails por username para la autenticación) tiene su propio tamaño y TTL.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String LEAGUES = "leagues";
+    public static final String TEAMS = "teams";
+    public static final String REFEREES = "referees";
+    public static final String ROLES = "roles";
+    public static final String USERS = "users";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${scoresense.cache.reference.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String spec,
+            @Value("${scoresense.cache.users.spec:maximumSize=10000,expireAfterWrite=5m,recordStats}") String usersSpec) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        manager.setAllowNullValues(false);
+        manager.setCacheNames(List.of(LEAGUES, TEAMS, REFEREES, ROLES));
+        manager.registerCustomCache(USERS, Caffeine.from(CaffeineSpec.parse(usersSpec)).build());
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+}
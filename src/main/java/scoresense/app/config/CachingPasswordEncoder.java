@@ -0,0 +1,91 @@
+package scoresense.app.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Decorador de PasswordEncoder que recuerda las verificaciones exitosas recientes.
+// Con httpBasic cada petición repite la comparación BCrypt (varios ms de CPU); aquí la
+// primera verificación de un par (hash, contraseña) paga BCrypt y las siguientes, dentro
+// del TTL, solo un HMAC-SHA256. Nunca se guarda la contraseña: la clave del caché es el
+// HMAC del par con una llave aleatoria por proceso. Como el hash forma parte de la clave,
+// cambiar la contraseña invalida las entradas anteriores. Los fallos no se cachean, así
+// un intento erróneo sigue costando un BCrypt completo.
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    private static final String HMAC = "HmacSHA256";
+
+    private final PasswordEncoder delegate;
+    private final Cache<String, Boolean> verified;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        String cacheKey = fingerprint(rawPassword, encodedPassword);
+        if (verified.getIfPresent(cacheKey) != null) {
+            return true;
+        }
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        if (matches) {
+            verified.put(cacheKey, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public long verifiedEntries() {
+        return verified.estimatedSize();
+    }
+
+    private String fingerprint(CharSequence rawPassword, String encodedPassword) {
+        Mac hmac = mac.get();
+        hmac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        hmac.update((byte) 0);
+        return Base64.getEncoder().encodeToString(hmac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac hmac = Mac.getInstance(HMAC);
+            hmac.init(key);
+            return hmac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package scoresense.app.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Mono;
+
+// Agrega "queryCount" a extensions de cada respuesta GraphQL para verificar que
+// las relaciones (team, player, match) se resuelven en lotes y no con N+1.
+@Component
+public class GraphQLQueryCountInterceptor implements WebGraphQlInterceptor {
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(WebGraphQlRequest request, Chain chain) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter == null) {
+            return chain.next(request);
+        }
+        return chain.next(request).map(response -> response.transform(builder -> {
+            Map<Object, Object> extensions = new LinkedHashMap<>(response.getExtensions());
+            extensions.put("queryCount", counter.get());
+            builder.extensions(extensions);
+        }));
+    }
+}
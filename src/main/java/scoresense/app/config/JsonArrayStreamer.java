@@ -0,0 +1,68 @@
+package scoresense.app.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+// Respuesta de listado en modo streaming (?stream=true): escribe un arreglo JSON elemento por
+// elemento mientras se recorre un Stream de JPA, sin armar la lista en memoria.
+// La consulta corre en una transacción de solo lectura abierta en el hilo async que escribe la
+// respuesta; cada CLEAR_EVERY filas se vacía el contexto de persistencia para que las entidades
+// ya serializadas no se acumulen (con proyecciones a DTO no hay nada que vaciar).
+@Component
+public class JsonArrayStreamer {
+
+    private static final int CLEAR_EVERY = 500;
+
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JsonArrayStreamer(ObjectMapper objectMapper, EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> ok(Supplier<Stream<T>> query) {
+        StreamingResponseBody body = out -> readOnlyTransaction.executeWithoutResult(status -> write(query, out));
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private <T> void write(Supplier<Stream<T>> query, OutputStream out) {
+        try (Stream<T> rows = query.get(); JsonGenerator json = objectMapper.createGenerator(out)) {
+            // El contenedor cierra la respuesta
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartArray();
+            int count = 0;
+            for (Iterator<T> it = rows.iterator(); it.hasNext();) {
+                json.writeObject(it.next());
+                if (++count % CLEAR_EVERY == 0) {
+                    json.flush();
+                    entityManager.clear();
+                }
+            }
+            json.writeEndArray();
+        } catch (IOException e) {
+            // Cliente desconectado u otro error de escritura: se revierte la transacción y se cierra el cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package scoresense.app.config;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Abre un QueryCounter por request HTTP y al terminar revisa el presupuesto de SQL:
+// - más de scoresense.sql.statement-budget sentencias, o
+// - una misma sentencia repetida scoresense.sql.repeated-statement-limit veces (N+1).
+// Una violación se registra con el método del controlador y el SQL más repetido, y suma al
+// contador scoresense.sql.budget.violations. Con scoresense.sql.fail-on-violation=true (tests)
+// además lanza AssertionError, así una regresión N+1 hace fallar la prueba.
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final MeterRegistry registry;
+    private final int statementBudget;
+    private final int repeatedLimit;
+    private final boolean failOnViolation;
+
+    public QueryCountFilter(MeterRegistry registry,
+            @Value("${scoresense.sql.statement-budget:30}") int statementBudget,
+            @Value("${scoresense.sql.repeated-statement-limit:10}") int repeatedLimit,
+            @Value("${scoresense.sql.fail-on-violation:false}") boolean failOnViolation) {
+        this.registry = registry;
+        this.statementBudget = statementBudget;
+        this.repeatedLimit = repeatedLimit;
+        this.failOnViolation = failOnViolation;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter counter = QueryCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCounter.clear();
+        }
+        check(request, counter);
+    }
+
+    private void check(HttpServletRequest request, QueryCounter counter) {
+        int statements = counter.get();
+        String handler = handlerName(request);
+        if (log.isDebugEnabled()) {
+            log.debug("{} executed {} SQL statements in {} ms", handler, statements, counter.executionMillis());
+        }
+        if (statements == 0) {
+            return;
+        }
+        registry.summary("scoresense.http.sql.statements", "handler", handler).record(statements);
+
+        Map.Entry<String, Integer> repeated = counter.mostRepeated();
+        String reason;
+        if (repeated != null && repeated.getValue() >= repeatedLimit) {
+            reason = "n_plus_one";
+        } else if (statements > statementBudget) {
+            reason = "statement_budget";
+        } else {
+            return;
+        }
+        registry.counter("scoresense.sql.budget.violations", "handler", handler, "reason", reason).increment();
+        String message = String.format("SQL budget exceeded (%s) in %s: %d statements (budget %d), %d ms; "
+                + "most repeated x%d: %s", reason, handler, statements, statementBudget, counter.executionMillis(),
+                repeated.getValue(), repeated.getKey());
+        log.warn(message);
+        if (failOnViolation) {
+            throw new AssertionError(message);
+        }
+    }
+
+    // Controlador#método si el request llegó a un @RequestMapping; si no, método HTTP y patrón
+    static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+    }
+}
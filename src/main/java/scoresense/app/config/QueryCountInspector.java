@@ -0,0 +1,25 @@
+package scoresense.app.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate invoca el inspector por cada sentencia SQL preparada; se cuenta en el request y se
+// guarda como última sentencia del hilo para que SqlExecutionListener le asigne su tiempo.
+// El SQL no se modifica.
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_STATEMENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_STATEMENT.set(sql);
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.record(sql);
+        }
+        return sql;
+    }
+
+    static String lastStatement() {
+        return LAST_STATEMENT.get();
+    }
+}
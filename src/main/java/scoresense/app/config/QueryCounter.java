@@ -0,0 +1,84 @@
+package scoresense.app.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.context.ContextRegistry;
+
+// Contador de sentencias SQL del request actual.
+// Se registra en context-propagation para que los hilos que ejecutan DataLoaders/@BatchMapping
+// de GraphQL sigan sumando sobre el mismo contador del request.
+// También cuenta por texto SQL: el mismo SELECT repetido con otros parámetros delata un N+1.
+public final class QueryCounter {
+
+    public static final String CONTEXT_KEY = "scoresense.queryCounter";
+
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(
+                CONTEXT_KEY, CURRENT::get, CURRENT::set, CURRENT::remove);
+    }
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong executionNanos = new AtomicLong();
+    private final Map<String, AtomicInteger> bySql = new ConcurrentHashMap<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryCounter start() {
+        QueryCounter counter = new QueryCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static QueryCounter current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void record(String sql) {
+        statements.incrementAndGet();
+        AtomicInteger count = bySql.get(sql);
+        if (count == null) {
+            // Tope de textos distintos por request; el total sigue contando
+            if (bySql.size() >= MAX_DISTINCT_STATEMENTS) {
+                return;
+            }
+            count = bySql.computeIfAbsent(sql, s -> new AtomicInteger());
+        }
+        count.incrementAndGet();
+    }
+
+    public void addExecutionTime(long nanos) {
+        executionNanos.addAndGet(nanos);
+    }
+
+    public int get() {
+        return statements.get();
+    }
+
+    public long executionMillis() {
+        return executionNanos.get() / 1_000_000;
+    }
+
+    // Sentencia más repetida del request (null si no hubo ninguna)
+    public Map.Entry<String, Integer> mostRepeated() {
+        Map.Entry<String, Integer> top = null;
+        for (Map.Entry<String, AtomicInteger> e : bySql.entrySet()) {
+            int count = e.getValue().get();
+            if (top == null || count > top.getValue()) {
+                top = Map.entry(e.getKey(), count);
+            }
+        }
+        return top;
+    }
+}
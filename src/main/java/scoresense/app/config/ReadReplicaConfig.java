@@ -0,0 +1,85 @@
+package scoresense.app.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Réplica de lectura opcional: solo se activa con scoresense.datasource.replica.jdbc-url.
+// Las transacciones @Transactional(readOnly = true) van al pool de la réplica y el resto
+// (escrituras, DDL de Hibernate) al primario de spring.datasource.*. Ojo: los métodos heredados de
+// los repositorios (findById, existsById, ...) abren su propia transacción readOnly, así que llamados
+// fuera de una transacción de servicio también van a la réplica.
+// La réplica puede ir atrasada: lo que se tiene que leer justo después de escribirlo (el login, las
+// comprobaciones de existencia de la ingesta de votos, sentimientos y eventos en vivo, y las cargas que
+// siembran estado en memoria: posiciones, resultados de encuestas, seguidores y sentimientos) corre en
+// una transacción de lectura-escritura para quedar en el primario.
+@Configuration
+@ConditionalOnProperty(prefix = "scoresense.datasource.replica", name = "jdbc-url")
+public class ReadReplicaConfig {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // Primario con la configuración habitual (spring.datasource.* y spring.datasource.hikari.*).
+    // Los pools no son candidatos de inyección y Boot no los instrumenta: las métricas hikaricp.*
+    // (tag pool=primary|replica) se registran a mano
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry registry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return dataSource;
+    }
+
+    // Réplica: usuario y contraseña del primario salvo que scoresense.datasource.replica.* los cambie
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties("scoresense.datasource.replica")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, MeterRegistry registry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setUsername(properties.determineUsername());
+        dataSource.setPassword(properties.determinePassword());
+        dataSource.setPoolName("replica");
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return dataSource;
+    }
+
+    // El proxy perezoso es necesario: JpaTransactionManager pide la conexión al abrir la
+    // transacción, antes de publicar el flag readOnly que decide la ruta
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, MeterRegistry registry) {
+        RoutingDataSource routing = new RoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                Route.PRIMARY, primaryDataSource(properties, registry),
+                Route.REPLICA, replicaDataSource(properties, registry)));
+        routing.setDefaultTargetDataSource(primaryDataSource(properties, registry));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    static class RoutingDataSource extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            // Sin transacción el flag es false: primario (los repositorios siempre abren la suya)
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+        }
+    }
+}
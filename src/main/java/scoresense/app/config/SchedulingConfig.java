@@ -0,0 +1,12 @@
+package scoresense.app.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Async usa el applicationTaskExecutor de Spring Boot (hilos virtuales con el perfil "virtual")
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
@@ -1,5 +1,8 @@
 package scoresense.app.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,8 +24,15 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST, "/api/users").permitAll()
                 .requestMatchers("/api/users/register").permitAll()
                 .requestMatchers("/graphiql/**", "/graphql/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                // Métricas y scrape de Prometheus (con HTTP Basic); health queda abierto para los chequeos
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // Marcador en vivo: lectura para cualquier usuario autenticado
+                .requestMatchers(HttpMethod.GET, "/api/matches/*/live", "/api/matches/*/events", "/api/matches/*/stream")
+                .authenticated()
                 .requestMatchers("/api/matches/**").hasRole("ADMIN")
                 .requestMatchers("/api/players/**", "/api/player-stats/**").hasRole("ADMIN")
+                .requestMatchers("/api/exports/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
                 )
                 .httpBasic(withDefaults())
@@ -31,8 +41,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // BCrypt detrás del caché de credenciales verificadas (ver CachingPasswordEncoder)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${scoresense.security.verified-credentials.max-size:10000}") long maxSize,
+            @Value("${scoresense.security.verified-credentials.ttl:5m}") Duration ttl) {
+        return new CachingPasswordEncoder(new BCryptPasswordEncoder(), maxSize, ttl);
     }
 }
@@ -0,0 +1,70 @@
+package scoresense.app.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Tiempo de cada método público de scoresense.app.service (timer scoresense.service con
+// etiquetas class, method y outcome) y contador de errores por tipo de excepción.
+// Va por fuera de @Transactional y @Cacheable: el tiempo incluye el commit y los aciertos de caché.
+// Solo mide la parte síncrona (un SseEmitter o una tarea @Async cuentan hasta que se devuelven).
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    static final String TIMER = "scoresense.service";
+    static final String ERRORS = "scoresense.service.errors";
+
+    private final MeterRegistry registry;
+    private final Map<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * scoresense.app.service..*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers methodTimers = timers.computeIfAbsent(method, this::register);
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = joinPoint.proceed();
+            sample.stop(methodTimers.success);
+            return result;
+        } catch (Throwable e) {
+            sample.stop(methodTimers.error);
+            registry.counter(ERRORS, "class", methodTimers.className, "method", method.getName(),
+                    "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        }
+    }
+
+    // Los timers se registran una vez por método; la búsqueda en el registro no queda en el camino caliente
+    private MethodTimers register(Method method) {
+        String className = method.getDeclaringClass().getSimpleName();
+        return new MethodTimers(className, timer(className, method.getName(), "success"),
+                timer(className, method.getName(), "error"));
+    }
+
+    private Timer timer(String className, String method, String outcome) {
+        return Timer.builder(TIMER)
+                .description("Service method execution time")
+                .tags("class", className, "method", method, "outcome", outcome)
+                .register(registry);
+    }
+
+    private record MethodTimers(String className, Timer success, Timer error) {
+    }
+}
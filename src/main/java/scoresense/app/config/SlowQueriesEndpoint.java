@@ -0,0 +1,24 @@
+package scoresense.app.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/slowqueries: últimas sentencias lentas, de la más antigua a la más reciente
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+    private final SlowQueryRecorder recorder;
+
+    public SlowQueriesEndpoint(SlowQueryRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public List<SlowQueryRecorder.SlowQuery> slowQueries() {
+        return recorder.recent();
+    }
+}
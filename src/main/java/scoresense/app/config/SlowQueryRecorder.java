@@ -0,0 +1,96 @@
+package scoresense.app.config;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+// Registra las sentencias SQL que superan scoresense.sql.slow-query-ms: log WARN con el método del
+// controlador que las originó, contador scoresense.sql.slow y las últimas N en memoria
+// (GET /actuator/slowqueries). SqlExecutionListener lo invoca de forma estática porque Hibernate
+// instancia los listeners de sesión por su cuenta.
+@Component
+public class SlowQueryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private static volatile SlowQueryRecorder instance;
+
+    private final long thresholdNanos;
+    private final int history;
+    private final Counter slowQueries;
+    private final Deque<SlowQuery> recent = new ArrayDeque<>();
+
+    public SlowQueryRecorder(MeterRegistry registry,
+            @Value("${scoresense.sql.slow-query-ms:200}") long thresholdMs,
+            @Value("${scoresense.sql.slow-query-history:100}") int history) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.history = history;
+        this.slowQueries = Counter.builder("scoresense.sql.slow")
+                .description("SQL statements slower than scoresense.sql.slow-query-ms")
+                .register(registry);
+        instance = this;
+    }
+
+    static void executed(long nanos) {
+        QueryCounter counter = QueryCounter.current();
+        if (counter != null) {
+            counter.addExecutionTime(nanos);
+        }
+        SlowQueryRecorder recorder = instance;
+        if (recorder != null && nanos >= recorder.thresholdNanos) {
+            recorder.record(QueryCountInspector.lastStatement(), nanos);
+        }
+    }
+
+    public List<SlowQuery> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    private void record(String sql, long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        String handler = currentHandler();
+        log.warn("Slow SQL ({} ms) in {}: {}", millis, handler, sql);
+        slowQueries.increment();
+        synchronized (recent) {
+            if (recent.size() == history) {
+                recent.removeFirst();
+            }
+            recent.addLast(new SlowQuery(sql, millis, handler, LocalDateTime.now()));
+        }
+    }
+
+    // Antes de resolver el controlador (p. ej. autenticación) se usa la URI; fuera de un request
+    // (hilos de ingesta, tareas programadas) no hay controlador
+    private static String currentHandler() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return "background";
+        }
+        HttpServletRequest request = servlet.getRequest();
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) == null) {
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return QueryCountFilter.handlerName(request);
+    }
+
+    public record SlowQuery(String sql, long durationMs, String handler, LocalDateTime executedAt) {
+    }
+}
@@ -0,0 +1,30 @@
+package scoresense.app.config;
+
+import org.hibernate.SessionEventListener;
+
+// Hibernate crea una instancia por sesión (hibernate.session.events.auto) y la avisa antes y
+// después de cada ejecución JDBC; la duración va al request y a SlowQueryRecorder.
+public class SqlExecutionListener implements SessionEventListener {
+
+    private long started;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SlowQueryRecorder.executed(System.nanoTime() - started);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        started = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SlowQueryRecorder.executed(System.nanoTime() - started);
+    }
+}
@@ -0,0 +1,104 @@
+package scoresense.app.controller;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import scoresense.app.dto.CacheRegionStatsResponse;
+import scoresense.app.dto.CacheStatsResponse;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "Application cache statistics")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+    private final CacheImplementor secondLevelCache;
+    private final Statistics statistics;
+
+    public CacheController(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.cacheManager = cacheManager;
+        this.secondLevelCache = sessionFactory.getCache();
+        this.statistics = sessionFactory.getStatistics();
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Reference data cache stats", description = "Size, hits, misses and evictions of each application cache")
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        return ResponseEntity.ok(cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(this::toResponse)
+                .toList());
+    }
+
+    @GetMapping("/regions")
+    @Operation(summary = "Hibernate second-level cache regions", description = "Hits, misses, puts and size of each entity and query cache region")
+    public ResponseEntity<List<CacheRegionStatsResponse>> getRegionStats() {
+        List<CacheRegionStatsResponse> regions = new ArrayList<>();
+        for (String name : secondLevelCache.getCacheRegionNames()) {
+            // La región de timestamps no guarda datos consultables; solo se reportan entidades y consultas
+            Region region = secondLevelCache.getRegion(name);
+            if (region instanceof DomainDataRegion) {
+                regions.add(toRegionResponse(name, "entity", statistics.getDomainDataRegionStatistics(name)));
+            } else if (region instanceof QueryResultsRegion) {
+                regions.add(toRegionResponse(name, "query", statistics.getQueryRegionStatistics(name)));
+            }
+        }
+        regions.sort(Comparator.comparing(CacheRegionStatsResponse::getType)
+                .thenComparing(CacheRegionStatsResponse::getRegion));
+        return ResponseEntity.ok(regions);
+    }
+
+    private CacheRegionStatsResponse toRegionResponse(String name, String type, CacheRegionStatistics stats) {
+        long hits = stats.getHitCount();
+        long lookups = hits + stats.getMissCount();
+        return CacheRegionStatsResponse.builder()
+                .region(name)
+                .type(type)
+                .hits(hits)
+                .misses(stats.getMissCount())
+                .puts(stats.getPutCount())
+                .hitRate(lookups == 0 ? 0.0 : Math.round(hits * 10000.0 / lookups) / 10000.0)
+                // JCache no expone el tamaño de la región (Long.MIN_VALUE); se omite
+                .elementsInMemory(stats.getElementCountInMemory() >= 0 ? stats.getElementCountInMemory() : null)
+                .build();
+    }
+
+    private CacheStatsResponse toResponse(String name) {
+        // Los cachés vienen envueltos por el proxy transaccional de CacheConfig
+        TransactionAwareCacheDecorator decorator = (TransactionAwareCacheDecorator) cacheManager.getCache(name);
+        Cache<Object, Object> cache = ((CaffeineCache) decorator.getTargetCache()).getNativeCache();
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(Math.round(stats.hitRate() * 10000.0) / 10000.0)
+                .evictions(stats.evictionCount())
+                .build();
+    }
+}
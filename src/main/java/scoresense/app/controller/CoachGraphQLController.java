@@ -1,6 +1,7 @@
 package scoresense.app.controller;
 
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
@@ -8,16 +9,23 @@ import org.springframework.stereotype.Controller;
 import io.swagger.v3.oas.annotations.Operation;
 import scoresense.app.dto.CoachRequest;
 import scoresense.app.dto.CoachResponse;
+import scoresense.app.dto.TeamResponse;
 import scoresense.app.service.CoachService;
+import scoresense.app.service.TeamService;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Controller
 public class CoachGraphQLController {
 
     private final CoachService coachService;
+    private final TeamService teamService;
 
-    public CoachGraphQLController(CoachService coachService) {
+    public CoachGraphQLController(CoachService coachService, TeamService teamService) {
         this.coachService = coachService;
+        this.teamService = teamService;
     }
 
 
@@ -34,6 +42,18 @@ public class CoachGraphQLController {
     }
 
 
+    // Coach.team: un solo SELECT ... WHERE team_id IN (...) por nivel de la consulta
+    @BatchMapping(typeName = "Coach")
+    public Map<CoachResponse, TeamResponse> team(List<CoachResponse> coaches) {
+        Map<Long, TeamResponse> teams = teamService.getByIds(coaches.stream()
+                .map(CoachResponse::getTeamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return coaches.stream()
+                .filter(coach -> teams.containsKey(coach.getTeamId()))
+                .collect(Collectors.toMap(coach -> coach, coach -> teams.get(coach.getTeamId()), (a, b) -> a));
+    }
+
     @MutationMapping
     public CoachResponse createCoach(
             @Argument String name,
@@ -0,0 +1,74 @@
+package scoresense.app.controller;
+
+import java.net.URI;
+import java.util.List;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import scoresense.app.dto.ExportJobResponse;
+import scoresense.app.dto.ExportRequest;
+import scoresense.app.service.ExportService;
+
+@RestController
+@RequestMapping("/api/exports")
+@Tag(name = "Exports", description = "Bulk analytics export API Endpoints")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Start an export", description = "Queues a background export of matches, player_stats or team_stats (joined with league, team and player data) as gzip CSV or Parquet, filtered by match date range and league. Returns 202 with the job; poll it until status is COMPLETED and download from download_url.")
+    public ResponseEntity<ExportJobResponse> start(@Valid @RequestBody ExportRequest req) {
+        ExportJobResponse job = exportService.start(req);
+        return ResponseEntity.accepted().location(URI.create("/api/exports/" + job.getJobId())).body(job);
+    }
+
+    @GetMapping
+    @Operation(summary = "List exports", description = "Returns the export jobs still retained, newest first")
+    public ResponseEntity<List<ExportJobResponse>> getAll() {
+        return ResponseEntity.ok(exportService.getAll());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get export status", description = "Returns status, rows written and progress of an export job")
+    public ResponseEntity<ExportJobResponse> getById(@PathVariable String id) {
+        return ResponseEntity.ok(exportService.getById(id));
+    }
+
+    @GetMapping("/{id}/file")
+    @Operation(summary = "Download export file", description = "Returns the file of a completed export; 409 while it is still running or if it failed")
+    public ResponseEntity<Resource> download(@PathVariable String id) {
+        ExportService.ExportFile file = exportService.getFile(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(file.fileName()).build().toString())
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .body(new FileSystemResource(file.path()));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete export", description = "Deletes a finished export job and its file")
+    public ResponseEntity<Void> delete(@PathVariable String id) {
+        exportService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -5,8 +5,10 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,12 +17,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import scoresense.app.config.JsonArrayStreamer;
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.FavoriteRequest;
 import scoresense.app.dto.FavoriteResponse;
+import scoresense.app.exception.InvalidCursorException;
 import scoresense.app.service.FavoriteService;
 
 @RestController
@@ -28,10 +35,16 @@ import scoresense.app.service.FavoriteService;
 @Tag(name = "Favorites", description = "Favorite API Endpoints")
 public class FavoriteController {
 
+    // Igual que FavoriteRequest; el conteo en memoria se indexa por este valor
+    private static final String ENTITY_TYPE = "^(team|player)$";
+    private static final String ENTITY_TYPE_MESSAGE = "El tipo de entidad debe ser 'team' o 'player'";
+
     private final FavoriteService favoriteService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public FavoriteController(FavoriteService favoriteService) {
+    public FavoriteController(FavoriteService favoriteService, JsonArrayStreamer jsonArrayStreamer) {
         this.favoriteService = favoriteService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     // --- LISTADO GENERAL ---
@@ -41,12 +54,32 @@ public class FavoriteController {
         return ResponseEntity.ok(favoriteService.getAll());
     }
 
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream all favorites", description = "Same list as GET /api/favorites, written as a JSON array while rows are read from the database. Memory use does not grow with the result size; use it for large exports.")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return jsonArrayStreamer.ok(favoriteService::streamAll);
+    }
+
     @GetMapping("/paged")
     @Operation(summary = "Page favorites", description = "Get a paginated list of favorites")
     public ResponseEntity<Page<FavoriteResponse>> getAllPaged(Pageable pageable) {
         return ResponseEntity.ok(favoriteService.getAllPaged(pageable));
     }
 
+    @GetMapping("/paged/cursor")
+    @Operation(summary = "Page favorites by cursor", description = "Keyset pagination without total count. Pass next_cursor from the previous response as ?cursor= to get the next page.")
+    public ResponseEntity<CursorPage<FavoriteResponse>> getAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(favoriteService.getAllByCursor(cursor, size));
+    }
+
+    // Cursor ilegible o de otro listado
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
     // --- CRUD BÁSICO ---
     @GetMapping("/{id}")
     @Operation(summary = "Get favorite by ID", description = "Return a favorite by using ID")
@@ -87,4 +120,20 @@ public class FavoriteController {
     public ResponseEntity<List<FavoriteResponse>> getUsersFavoritingTeam(@RequestParam Long teamId) {
         return ResponseEntity.ok(favoriteService.findUsersWhoFavoritedTeam(teamId));
     }
+
+    @GetMapping("/followers")
+    @Operation(summary = "Page followers of a team or player", description = "Returns the favorites pointing to an entity (entityType = team or player), paginated")
+    public ResponseEntity<Page<FavoriteResponse>> getFollowers(@RequestParam @Pattern(regexp = ENTITY_TYPE,
+            flags = Pattern.Flag.CASE_INSENSITIVE, message = ENTITY_TYPE_MESSAGE) String entityType,
+            @RequestParam Long entityId, Pageable pageable) {
+        return ResponseEntity.ok(favoriteService.findFollowers(entityType, entityId, pageable));
+    }
+
+    @GetMapping("/followers/count")
+    @Operation(summary = "Count followers of a team or player", description = "Returns how many users follow an entity (entityType = team or player)")
+    public ResponseEntity<Long> countFollowers(@RequestParam @Pattern(regexp = ENTITY_TYPE,
+            flags = Pattern.Flag.CASE_INSENSITIVE, message = ENTITY_TYPE_MESSAGE) String entityType,
+            @RequestParam Long entityId) {
+        return ResponseEntity.ok(favoriteService.countFollowers(entityType, entityId));
+    }
 }
@@ -6,15 +6,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.LeagueRequest;
 import scoresense.app.dto.LeagueResponse;
+import scoresense.app.dto.StandingResponse;
+import scoresense.app.exception.InvalidCursorException;
 import scoresense.app.service.LeagueService;
+import scoresense.app.service.StandingsService;
 
 @RestController
 @RequestMapping("/api/leagues")
@@ -22,9 +27,11 @@ import scoresense.app.service.LeagueService;
 public class LeagueController {
 
     private final LeagueService leagueService;
+    private final StandingsService standingsService;
 
-    public LeagueController(LeagueService leagueService) {
+    public LeagueController(LeagueService leagueService, StandingsService standingsService) {
         this.leagueService = leagueService;
+        this.standingsService = standingsService;
     }
 
     @GetMapping
@@ -53,6 +60,11 @@ public class LeagueController {
         return ResponseEntity.ok(updated);
     }
 
+    @GetMapping("/{id}/standings")
+    @Operation(summary = "Get league standings", description = "Returns the standings table of a league (points, goal difference, W/D/L and form)")
+    public ResponseEntity<List<StandingResponse>> getStandings(@PathVariable Long id) {
+        return ResponseEntity.ok(standingsService.getStandings(id));
+    }
 
     @GetMapping("/paged")
     @Operation(summary = "List leagues with pagination", description = "Returns leagues in a paginated format")
@@ -60,6 +72,20 @@ public class LeagueController {
         return ResponseEntity.ok(leagueService.getAllPaged(pageable));
     }
 
+    @GetMapping("/paged/cursor")
+    @Operation(summary = "Page leagues by cursor", description = "Keyset pagination without total count. Pass next_cursor from the previous response as ?cursor= to get the next page.")
+    public ResponseEntity<CursorPage<LeagueResponse>> getAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leagueService.getAllByCursor(cursor, size));
+    }
+
+    // Cursor ilegible o de otro listado
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete league", description = "Delete a league by ID")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -5,8 +5,10 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,12 +17,16 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import scoresense.app.config.JsonArrayStreamer;
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.NewsRequest;
 import scoresense.app.dto.NewsResponse;
+import scoresense.app.exception.InvalidCursorException;
 import scoresense.app.service.NewsService;
 
 @RestController
@@ -29,9 +35,11 @@ import scoresense.app.service.NewsService;
 public class NewsController {
 
     private final NewsService newsService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public NewsController(NewsService newsService) {
+    public NewsController(NewsService newsService, JsonArrayStreamer jsonArrayStreamer) {
         this.newsService = newsService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     // --- LISTADO GENERAL ---
@@ -41,12 +49,32 @@ public class NewsController {
         return ResponseEntity.ok(newsService.getAll());
     }
 
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream all news", description = "Same list as GET /api/news, written as a JSON array while rows are read from the database. Memory use does not grow with the result size; use it for large exports.")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return jsonArrayStreamer.ok(newsService::streamAll);
+    }
+
     @GetMapping("/paged")
     @Operation(summary = "Page news", description = "Get a paginated list of news")
     public ResponseEntity<Page<NewsResponse>> getAllPaged(Pageable pageable) {
         return ResponseEntity.ok(newsService.getAllPaged(pageable));
     }
 
+    @GetMapping("/paged/cursor")
+    @Operation(summary = "Page news by cursor", description = "Keyset pagination without total count. Pass next_cursor from the previous response as ?cursor= to get the next page.")
+    public ResponseEntity<CursorPage<NewsResponse>> getAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(newsService.getAllByCursor(cursor, size));
+    }
+
+    // Cursor ilegible o de otro listado
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
     // --- CRUD BÁSICO ---
     @GetMapping("/{id}")
     @Operation(summary = "Get news by ID", description = "Return a news item by using ID")
@@ -1,12 +1,16 @@
 package scoresense.app.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -15,12 +19,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import scoresense.app.config.JsonArrayStreamer;
+import scoresense.app.dto.CsvImportResult;
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.PlayerRequest;
 import scoresense.app.dto.PlayerResponse;
+import scoresense.app.exception.InvalidCursorException;
+import scoresense.app.service.CsvImportDataset;
+import scoresense.app.service.CsvImportService;
 import scoresense.app.service.PlayerService;
 
 @RestController
@@ -29,9 +41,14 @@ import scoresense.app.service.PlayerService;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final CsvImportService csvImportService;
 
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, JsonArrayStreamer jsonArrayStreamer,
+            CsvImportService csvImportService) {
         this.playerService = playerService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.csvImportService = csvImportService;
     }
 
     // --- GENERAL  ---
@@ -41,12 +58,32 @@ public class PlayerController {
         return ResponseEntity.ok(playerService.getAll());
     }
 
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream all players", description = "Same list as GET /api/players, written as a JSON array while rows are read from the database. Memory use does not grow with the result size; use it for large exports.")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return jsonArrayStreamer.ok(playerService::streamAll);
+    }
+
     @GetMapping("/paged")
     @Operation(summary = "Get all players (paginated)", description = "Return a page of players. Use ?page=X&size=Y&sort=name,asc to paginate.")
     public ResponseEntity<Page<PlayerResponse>> getAllPaged(Pageable pageable) {
         return ResponseEntity.ok(playerService.getAllPaged(pageable));
     }
 
+    @GetMapping("/paged/cursor")
+    @Operation(summary = "Page players by cursor", description = "Keyset pagination without total count. Pass next_cursor from the previous response as ?cursor= to get the next page.")
+    public ResponseEntity<CursorPage<PlayerResponse>> getAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(playerService.getAllByCursor(cursor, size));
+    }
+
+    // Cursor ilegible o de otro listado
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursor(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
     // --- CRUD ---
     @GetMapping("/{id}")
     @Operation(summary = "Get player by ID")
@@ -61,6 +98,13 @@ public class PlayerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    @Operation(summary = "Bulk import players from CSV", description = "Columns: name,position,age,nationality,height,weight,team (team by name). The file is loaded with COPY into a staging table and validated in SQL; valid rows are inserted in one transaction and invalid ones are reported with their row number. Players that already exist in the team are skipped.")
+    public ResponseEntity<CsvImportResult> importCsv(HttpServletRequest request) throws IOException {
+        CsvImportResult result = csvImportService.importCsv(CsvImportDataset.PLAYERS, request.getInputStream());
+        return result.getCompleted() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update player information")
     public ResponseEntity<PlayerResponse> update(@PathVariable Long id, @Valid @RequestBody PlayerRequest req) {
@@ -1,23 +1,31 @@
 package scoresense.app.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import scoresense.app.dto.PlayerRequest;
 import scoresense.app.dto.PlayerResponse;
+import scoresense.app.dto.TeamResponse;
 import scoresense.app.service.PlayerService;
+import scoresense.app.service.TeamService;
 
 @Controller
 public class PlayerGraphQLController {
 
     private final PlayerService playerService;
+    private final TeamService teamService;
 
-    public PlayerGraphQLController(PlayerService playerService) {
+    public PlayerGraphQLController(PlayerService playerService, TeamService teamService) {
         this.playerService = playerService;
+        this.teamService = teamService;
     }
 
     // ==========================================
@@ -57,6 +65,21 @@ public class PlayerGraphQLController {
         return playerService.findByNationalityAndMaxAge(nationality, maxAge.shortValue());
     }
 
+    // ==========================================
+    //              RELATIONS (BATCH)
+    // ==========================================
+    // Player.team: un solo SELECT ... WHERE team_id IN (...) para toda la lista
+    @BatchMapping(typeName = "Player")
+    public Map<PlayerResponse, TeamResponse> team(List<PlayerResponse> players) {
+        Map<Long, TeamResponse> teams = teamService.getByIds(players.stream()
+                .map(PlayerResponse::getTeamId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return players.stream()
+                .filter(player -> teams.containsKey(player.getTeamId()))
+                .collect(Collectors.toMap(player -> player, player -> teams.get(player.getTeamId()), (a, b) -> a));
+    }
+
     // ==========================================
     //            MUTATIONS
     // ==========================================
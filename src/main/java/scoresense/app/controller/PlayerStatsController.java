@@ -1,10 +1,13 @@
 package scoresense.app.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,9 +19,14 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import scoresense.app.dto.CsvImportResult;
+import scoresense.app.dto.PlayerSeasonStatsResponse;
 import scoresense.app.dto.PlayerStatsRequest;
 import scoresense.app.dto.PlayerStatsResponse;
+import scoresense.app.service.CsvImportDataset;
+import scoresense.app.service.CsvImportService;
 import scoresense.app.service.PlayerStatsService;
 
 @RestController
@@ -27,9 +35,11 @@ import scoresense.app.service.PlayerStatsService;
 public class PlayerStatsController {
 
     private final PlayerStatsService playerStatsService;
+    private final CsvImportService csvImportService;
 
-    public PlayerStatsController(PlayerStatsService playerStatsService) {
+    public PlayerStatsController(PlayerStatsService playerStatsService, CsvImportService csvImportService) {
         this.playerStatsService = playerStatsService;
+        this.csvImportService = csvImportService;
     }
 
     // ---  GENERAL ---
@@ -59,6 +69,13 @@ public class PlayerStatsController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping(value = "/import", consumes = { "text/csv", MediaType.TEXT_PLAIN_VALUE })
+    @Operation(summary = "Bulk import player stats from CSV", description = "Columns: match_date,home_team,away_team,player,team[,goals,assists,yellow_cards,red_cards,minutes_played]. The match is found by date and team names, the player by name and team. Loaded with COPY into a staging table and validated in SQL; invalid rows and stats that already exist are reported with their row number.")
+    public ResponseEntity<CsvImportResult> importCsv(HttpServletRequest request) throws IOException {
+        CsvImportResult result = csvImportService.importCsv(CsvImportDataset.PLAYER_STATS, request.getInputStream());
+        return result.getCompleted() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
     // --- Customized ---
     @GetMapping("/red-cards")
     @Operation(summary = "Search players with red cards", description = "Returns a list of statistics entries where the player received at least one red card.")
@@ -72,4 +89,20 @@ public class PlayerStatsController {
             @RequestParam(defaultValue = "2") Integer minGoals) {
         return ResponseEntity.ok(playerStatsService.findPlayersWithMinGoals(minGoals));
     }
+
+    // --- Season aggregates ---
+    @GetMapping("/season-totals")
+    @Operation(summary = "Season totals per player", description = "Returns goals, assists, cards, minutes and per-90 rates aggregated per player and season, ordered by goals. Use ?season=2025&page=X&size=Y.")
+    public ResponseEntity<List<PlayerSeasonStatsResponse>> getSeasonTotals(
+            @RequestParam(required = false) String season,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(playerStatsService.getSeasonTotals(season, PageRequest.of(page, size)));
+    }
+
+    @GetMapping("/season-totals/player/{playerId}")
+    @Operation(summary = "Season totals of a player", description = "Returns the aggregated statistics of a player for every season played.")
+    public ResponseEntity<List<PlayerSeasonStatsResponse>> getSeasonTotalsByPlayer(@PathVariable Long playerId) {
+        return ResponseEntity.ok(playerStatsService.getSeasonTotalsByPlayer(playerId));
+    }
 }
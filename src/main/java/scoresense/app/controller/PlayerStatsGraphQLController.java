@@ -1,23 +1,39 @@
 package scoresense.app.controller;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import scoresense.app.dto.MatchResponse;
+import scoresense.app.dto.PlayerResponse;
+import scoresense.app.dto.PlayerSeasonStatsResponse;
 import scoresense.app.dto.PlayerStatsRequest;
 import scoresense.app.dto.PlayerStatsResponse;
+import scoresense.app.service.MatchService;
+import scoresense.app.service.PlayerService;
 import scoresense.app.service.PlayerStatsService;
 
 @Controller
 public class PlayerStatsGraphQLController {
 
     private final PlayerStatsService playerStatsService;
+    private final PlayerService playerService;
+    private final MatchService matchService;
 
-    public PlayerStatsGraphQLController(PlayerStatsService playerStatsService) {
+    public PlayerStatsGraphQLController(PlayerStatsService playerStatsService,
+            PlayerService playerService,
+            MatchService matchService) {
         this.playerStatsService = playerStatsService;
+        this.playerService = playerService;
+        this.matchService = matchService;
     }
 
     // --- QUERIES ---
@@ -45,6 +61,42 @@ public class PlayerStatsGraphQLController {
         return playerStatsService.findPlayersWithMinGoals(minGoals);
     }
 
+    // 5. [CUSTOMIZED] season totals aggregated in the database
+    @QueryMapping
+    public List<PlayerSeasonStatsResponse> playerSeasonTotals(
+            @Argument String season,
+            @Argument Integer page,
+            @Argument Integer size
+    ) {
+        PageRequest pageRequest = PageRequest.of(page != null ? page : 0, size != null ? size : 20);
+        return playerStatsService.getSeasonTotals(season, pageRequest);
+    }
+
+    // --- RELATIONS (BATCH) ---
+    // PlayerStats.player: un solo SELECT ... WHERE player_id IN (...)
+    @BatchMapping(typeName = "PlayerStats")
+    public Map<PlayerStatsResponse, PlayerResponse> player(List<PlayerStatsResponse> stats) {
+        Map<Long, PlayerResponse> players = playerService.getByIds(stats.stream()
+                .map(PlayerStatsResponse::getPlayerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return stats.stream()
+                .filter(stat -> players.containsKey(stat.getPlayerId()))
+                .collect(Collectors.toMap(stat -> stat, stat -> players.get(stat.getPlayerId()), (a, b) -> a));
+    }
+
+    // PlayerStats.match: un solo SELECT ... WHERE match_id IN (...)
+    @BatchMapping(typeName = "PlayerStats")
+    public Map<PlayerStatsResponse, MatchResponse> match(List<PlayerStatsResponse> stats) {
+        Map<Long, MatchResponse> matches = matchService.getByIds(stats.stream()
+                .map(PlayerStatsResponse::getMatchId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return stats.stream()
+                .filter(stat -> matches.containsKey(stat.getMatchId()))
+                .collect(Collectors.toMap(stat -> stat, stat -> matches.get(stat.getMatchId()), (a, b) -> a));
+    }
+
     // --- MUTATIONS ---
     // 1. Create stats
     @MutationMapping
@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import scoresense.app.dto.PollRequest;
 import scoresense.app.dto.PollResponse;
+import scoresense.app.dto.PollResultResponse;
 import scoresense.app.service.PollService;
 
 @RestController
@@ -40,6 +41,12 @@ public class PollController {
         return ResponseEntity.ok(pollService.getById(id));
     }
 
+    @GetMapping("/{id}/results")
+    @Operation(summary = "Get live poll results", description = "Vote count and percentage per option, served from memory")
+    public ResponseEntity<PollResultResponse> getResults(@PathVariable Long id) {
+        return ResponseEntity.ok(pollService.getResults(id));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete poll by ID")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -9,7 +9,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import scoresense.app.dto.Poll_voteRequest;
 import scoresense.app.dto.Poll_voteResponse;
+import scoresense.app.dto.VoteIngestionStats;
 import scoresense.app.service.Poll_voteService;
+import scoresense.app.service.VoteIngestionService;
 
 @RestController
 @RequestMapping("/api/poll-votes")
@@ -17,9 +19,11 @@ import scoresense.app.service.Poll_voteService;
 public class Poll_voteController {
 
     private final Poll_voteService poll_voteService;
+    private final VoteIngestionService voteIngestionService;
 
-    public Poll_voteController(Poll_voteService poll_voteService) {
+    public Poll_voteController(Poll_voteService poll_voteService, VoteIngestionService voteIngestionService) {
         this.poll_voteService = poll_voteService;
+        this.voteIngestionService = voteIngestionService;
     }
 
     @PostMapping
@@ -29,6 +33,19 @@ public class Poll_voteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping("/ingest")
+    @Operation(summary = "Queue a vote", description = "High-volume path: the vote is validated, queued and stored in batches. One vote per user and poll; repeated votes are discarded")
+    public ResponseEntity<Void> ingest(@Valid @RequestBody Poll_voteRequest req) {
+        voteIngestionService.submit(req);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    @GetMapping("/ingest/stats")
+    @Operation(summary = "Vote ingestion stats", description = "Queue size and counters of the batched vote ingestion")
+    public ResponseEntity<VoteIngestionStats> getIngestionStats() {
+        return ResponseEntity.ok(voteIngestionService.getStats());
+    }
+
     @GetMapping("/by-poll/{pollId}")
     @Operation(summary = "Get all votes by poll ID", description = "Retrieve all votes associated with a poll")
     public ResponseEntity<List<Poll_voteResponse>> getVotesByPoll(@PathVariable Long pollId) {
@@ -1,13 +1,22 @@
 package scoresense.app.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import scoresense.app.config.JsonArrayStreamer;
+import scoresense.app.dto.SentimentBulkResult;
+import scoresense.app.dto.SentimentSummaryResponse;
 import scoresense.app.model.Sentiment;
 import scoresense.app.repository.SentimentRepository;
+import scoresense.app.service.SentimentAggregationService;
+import scoresense.app.service.SentimentBulkService;
 
+import java.io.IOException;
 import java.util.List;
 @RestController
 @RequestMapping("/api/sentiments")
@@ -16,12 +25,27 @@ public class SentimentController {
     @Autowired
     private SentimentRepository sentimentRepository;
 
+    @Autowired
+    private SentimentAggregationService sentimentAggregationService;
+
+    @Autowired
+    private SentimentBulkService sentimentBulkService;
+
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
     @GetMapping
     @Operation(summary = "Get sentiments", description = "Get all sentiments")
     public List<Sentiment> getAllSentiments() {
         return sentimentRepository.findAll();
     }
 
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream sentiments", description = "Same list as GET /api/sentiments, written as a JSON array while rows are read from the database")
+    public ResponseEntity<StreamingResponseBody> streamAllSentiments() {
+        return jsonArrayStreamer.ok(sentimentRepository::streamAll);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a sentiment", description = "Get sentiment by ID")
     public ResponseEntity<Sentiment> getSentimentById(@PathVariable Long id) {
@@ -33,7 +57,24 @@ public class SentimentController {
     @PostMapping
     @Operation(summary = "Create sentiment", description = "Create a new sentiment")
     public Sentiment createSentiment(@RequestBody Sentiment sentiment) {
-        return sentimentRepository.save(sentiment);
+        Sentiment saved = sentimentRepository.save(sentiment);
+        sentimentAggregationService.record(saved);
+        return saved;
+    }
+
+    @PostMapping(value = "/bulk", consumes = { "application/x-ndjson", MediaType.APPLICATION_JSON_VALUE })
+    @Operation(summary = "Bulk insert sentiments", description = "Streams an NDJSON body (one sentiment per line) or a JSON array and stores it in JDBC batches. Invalid records are skipped and reported")
+    public ResponseEntity<SentimentBulkResult> bulkInsert(HttpServletRequest request) throws IOException {
+        SentimentBulkResult result = sentimentBulkService.ingest(request.getInputStream());
+        return result.getCompleted() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
+    @GetMapping("/teams/{id}/summary")
+    @Operation(summary = "Team sentiment summary", description = "Positive / neutral / negative counts per source for a team over a rolling window (e.g. 15m, 1h, 24h)")
+    public ResponseEntity<SentimentSummaryResponse> getTeamSummary(@PathVariable Long id,
+            @RequestParam(defaultValue = "1h") String window) {
+        return ResponseEntity.ok(sentimentAggregationService.getSummary(id,
+                SentimentAggregationService.parseWindow(window)));
     }
 
 }
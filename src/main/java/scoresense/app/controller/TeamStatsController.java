@@ -1,9 +1,12 @@
 package scoresense.app.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
+import scoresense.app.config.JsonArrayStreamer;
 import scoresense.app.model.TeamStats;
 import scoresense.app.repository.TeamStatRepository;
 
@@ -18,12 +21,21 @@ public class TeamStatsController {
     @Autowired
     private TeamStatRepository teamStatRepository;
 
+    @Autowired
+    private JsonArrayStreamer jsonArrayStreamer;
+
     @GetMapping
     @Operation(summary = "Get team stats", description = "Get all team stats")
     public List<TeamStats> getAllTeamStats() {
         return teamStatRepository.findAll();
     }
 
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream team stats", description = "Same list as GET /api/team-stats, written as a JSON array while rows are read from the database")
+    public ResponseEntity<StreamingResponseBody> streamAllTeamStats() {
+        return jsonArrayStreamer.ok(teamStatRepository::streamAll);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a team stat", description = "Get team stat by ID")
     public Optional<TeamStats> getTeamStatById(@PathVariable Long id) {
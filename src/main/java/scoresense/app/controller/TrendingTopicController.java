@@ -8,7 +8,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import scoresense.app.dto.TrendingTopicRequest;
+import scoresense.app.dto.TrendingScoreResponse;
 import scoresense.app.dto.TrendingTopicResponse;
+import scoresense.app.service.TrendDetectionService;
 import scoresense.app.service.TrendingTopicService;
 
 import java.util.List;
@@ -19,9 +21,12 @@ import java.util.List;
 public class TrendingTopicController {
 
     private final TrendingTopicService trendingTopicService;
+    private final TrendDetectionService trendDetectionService;
 
-    public TrendingTopicController(TrendingTopicService trendingTopicService) {
+    public TrendingTopicController(TrendingTopicService trendingTopicService,
+            TrendDetectionService trendDetectionService) {
         this.trendingTopicService = trendingTopicService;
+        this.trendDetectionService = trendDetectionService;
     }
 
     @GetMapping
@@ -30,6 +35,23 @@ public class TrendingTopicController {
         return ResponseEntity.ok(trendingTopicService.getAll());
     }
 
+    @PostMapping("/mentions")
+    @Operation(summary = "Ingest topic mentions", description = "Counts raw mentions (topic + social media) in the trend detection engine")
+    public ResponseEntity<Void> recordMentions(@RequestBody List<TrendingTopicRequest> mentions) {
+        mentions.forEach(m -> trendDetectionService.recordMention(m.getTopic(), m.getSocialMedia()));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
+    @GetMapping("/live")
+    @Operation(summary = "Live trending topics", description = "Topics ranked by velocity over a sliding window (5m, 1h or 24h), optionally for one social media")
+    public ResponseEntity<List<TrendingScoreResponse>> getLive(
+            @RequestParam(defaultValue = "1h") String window,
+            @RequestParam(required = false) String socialMedia,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(trendDetectionService.getTrending(
+                TrendDetectionService.TrendWindow.fromLabel(window), socialMedia, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get trending topic by ID", description = "Returns a trending topic by its ID")
     public ResponseEntity<TrendingTopicResponse> getById(@PathVariable Long id) {
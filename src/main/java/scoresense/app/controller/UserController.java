@@ -12,10 +12,12 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import scoresense.app.config.JsonArrayStreamer;
 import scoresense.app.dto.UserRequest;
 import scoresense.app.dto.UserResponse;
 import scoresense.app.service.UserService;
@@ -26,9 +28,11 @@ import scoresense.app.service.UserService;
 public class UserController {
 
     private final UserService userService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, JsonArrayStreamer jsonArrayStreamer) {
         this.userService = userService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
     @GetMapping
@@ -37,6 +41,12 @@ public class UserController {
         return ResponseEntity.ok(userService.getAll());
     }
 
+    @GetMapping(params = "stream=true")
+    @Operation(summary = "Stream all users", description = "Same list as GET /api/users, written as a JSON array while rows are read from the database. Memory use does not grow with the result size; use it for large exports.")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return jsonArrayStreamer.ok(userService::streamAll);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID")
     public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
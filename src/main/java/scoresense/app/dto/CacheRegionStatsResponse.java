@@ -0,0 +1,37 @@
+package scoresense.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+
+    @JsonProperty("region")
+    String region;
+
+    // "entity" o "query"
+    @JsonProperty("type")
+    String type;
+
+    @JsonProperty("hits")
+    Long hits;
+
+    @JsonProperty("misses")
+    Long misses;
+
+    @JsonProperty("puts")
+    Long puts;
+
+    @JsonProperty("hit_rate")
+    Double hitRate;
+
+    @JsonProperty("elements_in_memory")
+    Long elementsInMemory;
+}
@@ -0,0 +1,33 @@
+package scoresense.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    @JsonProperty("name")
+    String name;
+
+    @JsonProperty("size")
+    Long size;
+
+    @JsonProperty("hits")
+    Long hits;
+
+    @JsonProperty("misses")
+    Long misses;
+
+    @JsonProperty("hit_rate")
+    Double hitRate;
+
+    @JsonProperty("evictions")
+    Long evictions;
+}
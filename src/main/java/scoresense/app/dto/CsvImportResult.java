@@ -0,0 +1,30 @@
+package scoresense.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvImportResult {
+
+    @JsonProperty("dataset")
+    String dataset;
+    @JsonProperty("received")
+    Long received;
+    @JsonProperty("inserted")
+    Long inserted;
+    @JsonProperty("rejected")
+    Long rejected;
+    @JsonProperty("completed")
+    Boolean completed; // false si el encabezado o el CSV están mal formados: no se inserta nada
+    @JsonProperty("errors")
+    List<String> errors; // Solo los primeros errores, con el número de fila de datos
+}
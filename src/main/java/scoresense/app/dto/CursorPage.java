@@ -0,0 +1,29 @@
+package scoresense.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    @JsonProperty("items")
+    List<T> items;
+
+    @JsonProperty("size")
+    Integer size;
+
+    @JsonProperty("has_next")
+    Boolean hasNext;
+
+    @JsonProperty("next_cursor")
+    String nextCursor; // Enviar como ?cursor= para obtener la siguiente página
+}
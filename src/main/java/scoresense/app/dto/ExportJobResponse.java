@@ -0,0 +1,49 @@
+package scoresense.app.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobResponse {
+
+    @JsonProperty("job_id")
+    String jobId;
+    @JsonProperty("dataset")
+    String dataset;
+    @JsonProperty("format")
+    String format;
+    @JsonProperty("from")
+    LocalDate from;
+    @JsonProperty("to")
+    LocalDate to;
+    @JsonProperty("league_id")
+    Long leagueId;
+    @JsonProperty("status")
+    String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    @JsonProperty("rows_written")
+    Long rowsWritten;
+    @JsonProperty("total_rows")
+    Long totalRows; // null hasta que termina el conteo inicial
+    @JsonProperty("progress")
+    Double progress; // porcentaje 0-100
+    @JsonProperty("size_bytes")
+    Long sizeBytes;
+    @JsonProperty("created_at")
+    LocalDateTime createdAt;
+    @JsonProperty("finished_at")
+    LocalDateTime finishedAt;
+    @JsonProperty("error")
+    String error;
+    @JsonProperty("download_url")
+    String downloadUrl; // solo cuando status = COMPLETED
+}
@@ -0,0 +1,27 @@
+package scoresense.app.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class ExportRequest {
+
+    @NotNull
+    @Pattern(regexp = "matches|player_stats|team_stats")
+    private String dataset;
+
+    // csv: CSV con encabezado comprimido con gzip; parquet: columnar con páginas ZSTD
+    @Pattern(regexp = "csv|parquet")
+    private String format = "csv";
+
+    // Rango de fechas del partido (inclusivo); los dos son opcionales
+    private LocalDate from;
+
+    private LocalDate to;
+
+    // Liga del equipo local del partido
+    private Long leagueId;
+}
@@ -0,0 +1,44 @@
+package scoresense.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveMatchResponse {
+
+    @JsonProperty("match_id")
+    Long matchId;
+
+    @JsonProperty("status")
+    String status;
+
+    @JsonProperty("minute")
+    Integer minute;
+
+    @JsonProperty("home_team_id")
+    Long homeTeamId;
+
+    @JsonProperty("away_team_id")
+    Long awayTeamId;
+
+    @JsonProperty("home_score")
+    Integer homeScore;
+
+    @JsonProperty("away_score")
+    Integer awayScore;
+
+    @JsonProperty("events")
+    List<MatchEventResponse> events;
+
+    @JsonProperty("player_stats")
+    List<PlayerStatsResponse> playerStats;
+}
@@ -0,0 +1,26 @@
+package scoresense.app.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class MatchEventRequest {
+
+    // GOAL, OWN_GOAL, YELLOW_CARD, RED_CARD, SUBSTITUTION, FULL_TIME
+    @NotBlank
+    private String type;
+
+    @NotNull
+    @Min(0)
+    @Max(150)
+    private Integer minute;
+
+    // Autor del gol / amonestado / jugador que sale (no aplica a FULL_TIME)
+    private Long playerId;
+
+    // Asistente del gol (opcional) / jugador que entra en la sustitución
+    private Long relatedPlayerId;
+}
@@ -0,0 +1,35 @@
+package scoresense.app.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchEventResponse {
+
+    @JsonProperty("type")
+    String type;
+
+    @JsonProperty("minute")
+    Integer minute;
+
+    @JsonProperty("player_id")
+    Long playerId;
+
+    @JsonProperty("related_player_id")
+    Long relatedPlayerId;
+
+    @JsonProperty("team_id")
+    Long teamId;
+
+    @JsonProperty("created_at")
+    LocalDateTime createdAt;
+}
@@ -11,10 +11,9 @@ public class MatchRequest {
     @NotNull
     private LocalDate matchDate;
 
-    @NotNull
+    // Sin marcador el partido queda programado y se sigue con eventos (/api/matches/{id}/events)
     private Integer homeScore; // SmallInt en BD -> Integer en Java
 
-    @NotNull
     private Integer awayScore; // SmallInt en BD -> Integer en Java
 
     @NotNull
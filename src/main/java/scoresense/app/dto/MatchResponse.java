@@ -27,6 +27,9 @@ public class MatchResponse {
     @JsonProperty("away_score")
     Integer awayScore;
 
+    @JsonProperty("status")
+    String status;
+
     @JsonProperty("home_team_id")
     Long homeTeamId;
 
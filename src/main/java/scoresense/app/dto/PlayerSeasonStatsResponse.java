@@ -0,0 +1,72 @@
+package scoresense.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerSeasonStatsResponse {
+
+    @JsonProperty("player_id")
+    Long playerId;
+
+    @JsonProperty("player_name")
+    String playerName;
+
+    @JsonProperty("season")
+    String season;
+
+    @JsonProperty("matches")
+    Long matches;
+
+    @JsonProperty("goals")
+    Long goals;
+
+    @JsonProperty("assists")
+    Long assists;
+
+    @JsonProperty("yellow_cards")
+    Long yellowCards;
+
+    @JsonProperty("red_cards")
+    Long redCards;
+
+    @JsonProperty("minutes_played")
+    Long minutesPlayed;
+
+    @JsonProperty("goals_per_90")
+    Double goalsPer90;
+
+    @JsonProperty("assists_per_90")
+    Double assistsPer90;
+
+    // Constructor usado por la consulta agregada de PlayerStatsRepository (SELECT new ...)
+    // SUM() devuelve null si todas las filas son null, por eso se normaliza a 0
+    public PlayerSeasonStatsResponse(Long playerId, String playerName, String season, Long matches,
+            Long goals, Long assists, Long yellowCards, Long redCards, Long minutesPlayed) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.season = season;
+        this.matches = matches;
+        this.goals = goals != null ? goals : 0L;
+        this.assists = assists != null ? assists : 0L;
+        this.yellowCards = yellowCards != null ? yellowCards : 0L;
+        this.redCards = redCards != null ? redCards : 0L;
+        this.minutesPlayed = minutesPlayed != null ? minutesPlayed : 0L;
+        this.goalsPer90 = per90(this.goals, this.minutesPlayed);
+        this.assistsPer90 = per90(this.assists, this.minutesPlayed);
+    }
+
+    private static Double per90(long value, long minutes) {
+        if (minutes <= 0) {
+            return 0.0;
+        }
+        return Math.round(value * 90.0 / minutes * 100.0) / 100.0;
+    }
+}
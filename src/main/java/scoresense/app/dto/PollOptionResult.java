@@ -0,0 +1,12 @@
+package scoresense.app.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PollOptionResult {
+    private String option;
+    private Long votes;
+    private Double percentage;
+}
@@ -0,0 +1,14 @@
+package scoresense.app.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PollResultResponse {
+    private Long pollId;
+    private Long totalVotes;
+    private List<PollOptionResult> options;
+}
@@ -0,0 +1,30 @@
+package scoresense.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentBulkResult {
+
+    @JsonProperty("received")
+    Long received;
+    @JsonProperty("inserted")
+    Long inserted;
+    @JsonProperty("rejected")
+    Long rejected;
+    @JsonProperty("batches")
+    Long batches;
+    @JsonProperty("completed")
+    Boolean completed; // false si el cuerpo se cortó por JSON mal formado
+    @JsonProperty("errors")
+    List<String> errors; // Solo los primeros errores, con el número de registro
+}
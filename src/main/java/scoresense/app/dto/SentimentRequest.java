@@ -1,7 +1,12 @@
 package scoresense.app.dto;
 
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -12,13 +17,19 @@ public class SentimentRequest {
     @Size(max = 50)
     private String source;
 
+    // Mismos valores que el CHECK de la tabla sentiments
     @NotBlank
-    @Size(max = 20)
+    @Pattern(regexp = "positive|neutral|negative")
     private String sentiment;
 
     @NotBlank
     private String comment;
 
     @NotNull
+    @JsonAlias("team_id")
     private Long teamId;
+
+    // Opcional: fecha original del comentario (cargas históricas); si falta se usa la actual
+    @JsonAlias("created_at")
+    private LocalDateTime createdAt;
 }
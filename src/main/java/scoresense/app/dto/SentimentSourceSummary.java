@@ -0,0 +1,26 @@
+package scoresense.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentSourceSummary {
+
+    @JsonProperty("source")
+    String source; // Twitter, Facebook, etc.
+    @JsonProperty("positive")
+    Long positive;
+    @JsonProperty("neutral")
+    Long neutral;
+    @JsonProperty("negative")
+    Long negative;
+    @JsonProperty("total")
+    Long total;
+}
@@ -0,0 +1,38 @@
+package scoresense.app.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SentimentSummaryResponse {
+
+    @JsonProperty("team_id")
+    Long teamId;
+    @JsonProperty("window")
+    String window; // Ej. 15m, 1h, 24h
+    @JsonProperty("positive")
+    Long positive;
+    @JsonProperty("neutral")
+    Long neutral;
+    @JsonProperty("negative")
+    Long negative;
+    @JsonProperty("total")
+    Long total;
+    @JsonProperty("positive_ratio")
+    Double positiveRatio;
+    @JsonProperty("negative_ratio")
+    Double negativeRatio;
+    @JsonProperty("net_score")
+    Double netScore; // (positive - negative) / total, entre -1 y 1
+    @JsonProperty("sources")
+    List<SentimentSourceSummary> sources;
+}
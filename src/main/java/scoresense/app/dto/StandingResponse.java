@@ -0,0 +1,51 @@
+package scoresense.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingResponse {
+
+    @JsonProperty("position")
+    Integer position;
+
+    @JsonProperty("team_id")
+    Long teamId;
+
+    @JsonProperty("team_name")
+    String teamName;
+
+    @JsonProperty("played")
+    Integer played;
+
+    @JsonProperty("won")
+    Integer won;
+
+    @JsonProperty("drawn")
+    Integer drawn;
+
+    @JsonProperty("lost")
+    Integer lost;
+
+    @JsonProperty("goals_for")
+    Integer goalsFor;
+
+    @JsonProperty("goals_against")
+    Integer goalsAgainst;
+
+    @JsonProperty("goal_difference")
+    Integer goalDifference;
+
+    @JsonProperty("points")
+    Integer points;
+
+    @JsonProperty("form")
+    String form; // Últimos resultados, el más reciente al final (ej. "WWDLW")
+}
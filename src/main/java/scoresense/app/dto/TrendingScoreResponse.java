@@ -0,0 +1,36 @@
+package scoresense.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingScoreResponse {
+
+    @JsonProperty("rank")
+    Integer rank;
+
+    @JsonProperty("topic")
+    String topic;
+
+    @JsonProperty("social_media")
+    String socialMedia; // null = todas las redes
+
+    @JsonProperty("window")
+    String window;
+
+    @JsonProperty("mentions")
+    Long mentions;
+
+    @JsonProperty("previous_mentions")
+    Long previousMentions;
+
+    @JsonProperty("velocity")
+    Double velocity; // Menciones por minuto ganadas respecto a la ventana anterior
+}
@@ -26,4 +26,13 @@ public class TrendingTopicResponse {
 
     @JsonProperty("created_at")
     LocalDateTime createdAt;
+
+    @JsonProperty("time_window")
+    String timeWindow;
+
+    @JsonProperty("mentions")
+    Long mentions;
+
+    @JsonProperty("velocity")
+    Double velocity;
 }
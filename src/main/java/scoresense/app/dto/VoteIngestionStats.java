@@ -0,0 +1,17 @@
+package scoresense.app.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class VoteIngestionStats {
+    private Integer queued;
+    private Integer queueCapacity;
+    private Long accepted;
+    private Long rejected;
+    private Long inserted;
+    private Long duplicates;
+    private Long failed;
+    private Long batches;
+}
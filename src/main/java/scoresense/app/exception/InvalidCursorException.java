@@ -0,0 +1,13 @@
+package scoresense.app.exception;
+
+// Cursor de paginación que no se puede leer o que pertenece a otro listado
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -13,6 +13,7 @@ public class ContractMapper {
                 .endDate(contract.getEndDate())
                 .salary(contract.getSalary())
                 .playerId(contract.getPlayer() != null ? contract.getPlayer().getPlayerId() : null)
+                .teamId(contract.getTeam() != null ? contract.getTeam().getTeamId() : null)
                 .build();
     }
 
@@ -35,6 +35,7 @@ public final class MatchMapper {
                 .matchDate(match.getMatchDate())
                 .homeScore(match.getHomeScore())
                 .awayScore(match.getAwayScore())
+                .status(match.getStatus() != null ? match.getStatus().name() : null)
                 .homeTeamId(homeTeamId)
                 .awayTeamId(awayTeamId)
                 .refereeId(refereeId)
@@ -4,6 +4,8 @@ import java.time.LocalDate;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -19,6 +21,14 @@ import lombok.Setter;
 @Table(name = "matches")
 public class Match {
 
+    // SCHEDULED: sin marcador; LIVE: con eventos en curso; FINISHED: resultado final.
+    // Las filas anteriores a esta columna (status null) con marcador se consideran finalizadas.
+    public enum Status {
+        SCHEDULED,
+        LIVE,
+        FINISHED
+    }
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "match_id")
@@ -33,6 +43,10 @@ public class Match {
     @Column(name = "away_score")
     private Integer awayScore;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10)
+    private Status status;
+
     @ManyToOne
     @JoinColumn(name = "home_team")
     private Team homeTeam;
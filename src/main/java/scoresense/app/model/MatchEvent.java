@@ -0,0 +1,74 @@
+package scoresense.app.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// Evento de partido (solo inserción): el marcador y las player_stats del partido se derivan de estos
+@Getter
+@Setter
+@Entity
+@Table(name = "match_events", indexes = {
+        @Index(name = "idx_match_events_match", columnList = "match_id, event_id")
+})
+public class MatchEvent {
+
+    public enum Type {
+        GOAL,
+        OWN_GOAL,
+        YELLOW_CARD,
+        RED_CARD,
+        SUBSTITUTION,
+        FULL_TIME
+    }
+
+    // Secuencia con bloques de 50 IDs para insertar los eventos por lotes
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_event_seq")
+    @SequenceGenerator(name = "match_event_seq", sequenceName = "match_event_seq", allocationSize = 50)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "match_id", nullable = false)
+    private Match match;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private Type eventType;
+
+    @Column(name = "event_minute", nullable = false)
+    private Integer minute;
+
+    // Jugador principal: autor del gol, amonestado o el que sale en una sustitución
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    private Player player;
+
+    // Asistente de un gol o el que entra en una sustitución
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "related_player_id")
+    private Player relatedPlayer;
+
+    // Equipo del jugador principal
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
@@ -21,7 +21,8 @@ public class News {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "publish_date")
+    // Clave del cursor de noticias: no admite NULL
+    @Column(name = "publish_date", nullable = false)
     private LocalDateTime publishDate = LocalDateTime.now();
 
     @Column(name = "author")
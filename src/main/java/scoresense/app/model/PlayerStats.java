@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -14,7 +15,10 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "player_stats")
+@Table(name = "player_stats", indexes = {
+    @Index(name = "idx_player_stats_player", columnList = "player_id"),
+    @Index(name = "idx_player_stats_match", columnList = "match_id")
+})
 public class PlayerStats {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
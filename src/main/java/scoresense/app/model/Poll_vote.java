@@ -5,8 +5,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,10 +18,14 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @Entity
-@Table(name = "poll_vote")
+@Table(name = "poll_vote", indexes = {
+        @Index(name = "idx_poll_vote_poll_user", columnList = "poll_id, user_id")
+})
 public class Poll_vote {
+    // Secuencia con bloques de 50 IDs: IDENTITY obliga a Hibernate a insertar fila por fila
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "poll_vote_seq")
+    @SequenceGenerator(name = "poll_vote_seq", sequenceName = "poll_vote_seq", allocationSize = 50)
     @Column(name = "poll_vote_id")
     private Long pollvoteId;
 
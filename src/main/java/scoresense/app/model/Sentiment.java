@@ -7,7 +7,9 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "sentiments")
+@Table(name = "sentiments", indexes = {
+        @Index(name = "idx_sentiments_created_at", columnList = "created_at")
+})
 public class Sentiment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
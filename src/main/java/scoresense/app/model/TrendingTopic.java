@@ -23,4 +23,14 @@ public class TrendingTopic {
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Solo para instantáneas generadas por TrendDetectionService
+    @Column(name = "time_window", length = 10)
+    private String timeWindow;
+
+    @Column(name = "mentions")
+    private Long mentions;
+
+    @Column(name = "velocity")
+    private Double velocity;
+
 }
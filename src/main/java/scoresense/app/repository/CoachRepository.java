@@ -2,17 +2,40 @@ package scoresense.app.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
+import scoresense.app.dto.CoachResponse;
 import scoresense.app.model.Coach;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface CoachRepository extends JpaRepository<Coach, Long> {
+    // Listado completo directo al DTO: sin entidades administradas ni carga del Team
+    @Query("SELECT new scoresense.app.dto.CoachResponse(c.coachId, c.name, c.nationality, c.experiencedYears, "
+            + "c.team.teamId) FROM Coach c ORDER BY c.coachId")
+    List<CoachResponse> findAllResponses();
+
+    // Consultas derivadas en la caché de consultas (región coach-queries, ver ehcache.xml)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "coach-queries") })
     List<Coach> findByNameIgnoreCase(String name);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "coach-queries") })
     List<Coach> findByExperiencedYearsGreaterThanEqual(Integer years);
+
     Page<Coach> findAll(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "coach-queries") })
     List<Coach> findByNationalityIgnoreCase(String nationality);
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,16 @@
 package scoresense.app.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import scoresense.app.dto.ContractResponse;
 import scoresense.app.model.Contract;
 public interface ContractRepository extends JpaRepository<Contract,Long>{
+
+    // Listado completo directo al DTO: player y team se leen de sus FK, sin cargar las entidades
+    @Query("SELECT new scoresense.app.dto.ContractResponse(c.contractId, c.player.playerId, c.team.teamId, "
+            + "c.startDate, c.endDate, c.salary) FROM Contract c ORDER BY c.contractId")
+    List<ContractResponse> findAllResponses();
 }
@@ -1,16 +1,29 @@
 package scoresense.app.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import scoresense.app.dto.FavoriteResponse;
 import scoresense.app.model.Favorite;
 
 @Repository
-public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
+public interface FavoriteRepository extends JpaRepository<Favorite, Long>, KeysetRepository<Favorite> {
+
+    // Proyección común: f.user.userId se lee de la FK, sin cargar User
+    String RESPONSE_SELECT = "SELECT new scoresense.app.dto.FavoriteResponse("
+            + "f.favoriteId, f.user.userId, f.entityType, f.entityId) FROM Favorite f ";
+
+    String BY_ENTITY = "WHERE f.entityType = :entityType AND f.entityId = :entityId ";
 
     // 1. Consulta general con paginación
     // (Heredada de JpaRepository, pero explicitada para claridad)
@@ -27,4 +40,23 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     // Opcional: Si quisieras buscar por tipo de entidad (ej: todos los favoritos que son 'team')
     List<Favorite> findByEntityType(String entityType);
+
+    // 4. Índice inverso: seguidores de un equipo o jugador, resuelto con idx_favorites_entity
+    @Query(RESPONSE_SELECT + BY_ENTITY + "ORDER BY f.favoriteId")
+    List<FavoriteResponse> findResponsesByEntity(@Param("entityType") String entityType,
+            @Param("entityId") Long entityId);
+
+    // 5. Lo mismo paginado; el count también usa el índice compuesto
+    @Query(value = RESPONSE_SELECT + BY_ENTITY,
+            countQuery = "SELECT COUNT(f) FROM Favorite f " + BY_ENTITY)
+    Page<FavoriteResponse> findResponsesByEntity(@Param("entityType") String entityType,
+            @Param("entityId") Long entityId, Pageable pageable);
+
+    // 6. Número de seguidores de una entidad
+    long countByEntityTypeAndEntityId(String entityType, Long entityId);
+
+    // 7. Listado completo en streaming (?stream=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query(RESPONSE_SELECT + "ORDER BY f.favoriteId")
+    Stream<FavoriteResponse> streamAllResponses();
 }
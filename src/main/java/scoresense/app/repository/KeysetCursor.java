@@ -0,0 +1,115 @@
+package scoresense.app.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import scoresense.app.dto.CursorPage;
+import scoresense.app.exception.InvalidCursorException;
+
+// Codifica/decodifica la posición de keyset como un cursor opaco (Base64 URL-safe).
+// Formato interno: propiedad|tipo|valor por cada clave del Sort, separadas por salto de línea.
+// Un ?cursor= que no se puede leer lanza InvalidCursorException (el controlador responde 400).
+// Las claves del Sort deben ser no nulas: el keyset no sabe comparar contra NULL.
+public final class KeysetCursor {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetCursor() {
+    }
+
+    public static ScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String line : raw.split("\n")) {
+                String[] parts = line.split("\\|", 3);
+                keys.put(parts[0], parseValue(parts[1], parts[2]));
+            }
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor", e);
+        }
+        Set<String> sortProperties = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        if (!keys.keySet().equals(sortProperties)) {
+            // Cursor de otro listado
+            throw new InvalidCursorException("Invalid cursor");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            return null;
+        }
+        StringBuilder raw = new StringBuilder();
+        keyset.getKeys().forEach((property, value) -> {
+            if (raw.length() > 0) {
+                raw.append('\n');
+            }
+            raw.append(property).append('|').append(typeOf(property, value)).append('|').append(value);
+        });
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Limit limit(int size) {
+        return Limit.of(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    public static <T, R> CursorPage<R> toPage(Window<T> window, Function<T, R> mapper) {
+        List<R> items = window.stream().map(mapper).collect(Collectors.toList());
+        String next = window.hasNext() && !window.isEmpty()
+                ? encode(window.positionAt(window.size() - 1))
+                : null;
+        return CursorPage.<R>builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(next != null)
+                .nextCursor(next)
+                .build();
+    }
+
+    private static String typeOf(String property, Object value) {
+        if (value == null) {
+            throw new IllegalStateException("Keyset property '" + property + "' is null; cursor sort keys must be non-null");
+        }
+        if (value instanceof Long) {
+            return "L";
+        }
+        if (value instanceof Integer) {
+            return "I";
+        }
+        if (value instanceof LocalDate) {
+            return "D";
+        }
+        if (value instanceof LocalDateTime) {
+            return "T";
+        }
+        throw new IllegalArgumentException("Unsupported keyset type: " + value.getClass().getName());
+    }
+
+    private static Object parseValue(String type, String value) {
+        return switch (type) {
+            case "L" -> Long.valueOf(value);
+            case "I" -> Integer.valueOf(value);
+            case "D" -> LocalDate.parse(value);
+            case "T" -> LocalDateTime.parse(value);
+            default -> throw new IllegalArgumentException("Unknown keyset type: " + type);
+        };
+    }
+}
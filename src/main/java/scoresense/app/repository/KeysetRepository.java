@@ -0,0 +1,17 @@
+package scoresense.app.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.NoRepositoryBean;
+
+// Paginación por keyset (cursor) compartida por los repositorios con endpoint /paged.
+// Spring Data genera WHERE (claves de orden) > (últimas claves vistas) ORDER BY ... LIMIT n,
+// por lo que cualquier página cuesta lo mismo que la primera y no se ejecuta count(*).
+// El Sort debe terminar en una columna única (el ID) para que el cursor sea estable.
+@NoRepositoryBean
+public interface KeysetRepository<T> {
+
+    Window<T> findBy(ScrollPosition position, Sort sort, Limit limit);
+}
@@ -4,5 +4,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import scoresense.app.model.League;
 
-public interface LeagueRepository extends JpaRepository<League, Long> {
+public interface LeagueRepository extends JpaRepository<League, Long>, KeysetRepository<League> {
 }
\ No newline at end of file
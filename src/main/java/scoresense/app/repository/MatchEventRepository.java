@@ -0,0 +1,39 @@
+package scoresense.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import scoresense.app.model.MatchEvent;
+
+@Repository
+public interface MatchEventRepository extends JpaRepository<MatchEvent, Long> {
+
+    // Línea de tiempo de un partido en orden de llegada; las FK se leen sin JOIN
+    @Query("SELECT e.eventId AS eventId, e.eventType AS eventType, e.minute AS minute, "
+            + "e.player.playerId AS playerId, e.relatedPlayer.playerId AS relatedPlayerId, "
+            + "e.team.teamId AS teamId, e.createdAt AS createdAt "
+            + "FROM MatchEvent e WHERE e.match.matchId = :matchId ORDER BY e.eventId")
+    List<MatchEventView> findTimeline(@Param("matchId") Long matchId);
+
+    interface MatchEventView {
+
+        Long getEventId();
+
+        MatchEvent.Type getEventType();
+
+        Integer getMinute();
+
+        Long getPlayerId();
+
+        Long getRelatedPlayerId();
+
+        Long getTeamId();
+
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -1,20 +1,35 @@
 package scoresense.app.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import scoresense.app.dto.MatchResponse;
 import scoresense.app.model.Match;
 
 @Repository
-public interface MatchRepository extends JpaRepository<Match, Long> {
+public interface MatchRepository extends JpaRepository<Match, Long>, KeysetRepository<Match> {
 
     // 1. Obtener todos paginados (Ya incluido en JpaRepository, pero bueno explicitarlo)
     Page<Match> findAll(Pageable pageable);
 
+    // Listado completo en streaming (?stream=true); equipos y árbitro se leen de sus FK
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query("SELECT new scoresense.app.dto.MatchResponse(m.matchId, m.matchDate, m.homeScore, m.awayScore, "
+            + "CAST(m.status AS String), m.homeTeam.teamId, m.awayTeam.teamId, m.referee.refereeId) "
+            + "FROM Match m ORDER BY m.matchId")
+    Stream<MatchResponse> streamAllResponses();
+
     // 2. Obtener todos en casa por team id (Sin paginar)
     // JPA infiere: WHERE homeTeam.teamId = ?
     List<Match> findByHomeTeamTeamId(Long teamId);
@@ -22,4 +37,46 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     // 3. Obtener todos de visitante por team id (Sin paginar)
     // JPA infiere: WHERE awayTeam.teamId = ?
     List<Match> findByAwayTeamTeamId(Long teamId);
+
+    // 4. Resultados finales entre equipos de la misma liga (para la tabla de posiciones)
+    // Proyección: solo las columnas necesarias, sin hidratar Match/Team/Referee.
+    // Los partidos en vivo ya tienen marcador parcial, por eso se excluyen por estado.
+    @Query("SELECT m.matchId AS matchId, l.leagueId AS leagueId, "
+            + "home.teamId AS homeTeamId, home.name AS homeTeamName, "
+            + "away.teamId AS awayTeamId, away.name AS awayTeamName, "
+            + "m.homeScore AS homeScore, m.awayScore AS awayScore "
+            + "FROM Match m JOIN m.homeTeam home JOIN m.awayTeam away JOIN home.league l "
+            + "WHERE away.league = l AND m.homeScore IS NOT NULL AND m.awayScore IS NOT NULL "
+            + "AND (m.status IS NULL OR m.status = scoresense.app.model.Match.Status.FINISHED) "
+            + "ORDER BY m.matchDate, m.matchId")
+    List<MatchResultView> findPlayedLeagueResults();
+
+    // 5. Partidos en vivo (se recargan en memoria al arrancar)
+    List<Match> findByStatus(Match.Status status);
+
+    // 6. Marcador y estado derivados de los eventos del partido
+    @Modifying
+    @Query("UPDATE Match m SET m.homeScore = :homeScore, m.awayScore = :awayScore, m.status = :status "
+            + "WHERE m.matchId = :matchId")
+    int updateLiveState(@Param("matchId") Long matchId, @Param("homeScore") Integer homeScore,
+            @Param("awayScore") Integer awayScore, @Param("status") Match.Status status);
+
+    interface MatchResultView {
+
+        Long getMatchId();
+
+        Long getLeagueId();
+
+        Long getHomeTeamId();
+
+        String getHomeTeamName();
+
+        Long getAwayTeamId();
+
+        String getAwayTeamName();
+
+        Integer getHomeScore();
+
+        Integer getAwayScore();
+    }
 }
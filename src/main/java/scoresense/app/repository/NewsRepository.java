@@ -1,16 +1,22 @@
 package scoresense.app.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import scoresense.app.dto.NewsResponse;
 import scoresense.app.model.News;
 
 @Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, KeysetRepository<News> {
 
     // 1. Consulta especializada: Obtener todas con paginación
     // (Heredada de JpaRepository, pero explicitada para claridad y uso en el servicio)
@@ -19,4 +25,16 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     // 2. Consulta especializada: Obtener noticias por ID de equipo (Sin paginación)
     // Spring Data JPA infiere: WHERE team.teamId = ?
     List<News> findByTeamTeamId(Long teamId);
+
+    // 3. Listado completo directo al DTO: sin entidades administradas ni carga del Team
+    String RESPONSE_SELECT = "SELECT new scoresense.app.dto.NewsResponse(n.newsId, n.title, n.content, n.publishDate, "
+            + "n.author, n.source_url, n.image_url, n.team.teamId) FROM News n ORDER BY n.newsId";
+
+    @Query(RESPONSE_SELECT)
+    List<NewsResponse> findAllResponses();
+
+    // 4. Misma proyección en streaming (?stream=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query(RESPONSE_SELECT)
+    Stream<NewsResponse> streamAllResponses();
 }
@@ -1,22 +1,51 @@
 package scoresense.app.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import scoresense.app.dto.PlayerResponse;
 import scoresense.app.model.Player;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, KeysetRepository<Player> {
+
+    // Proyección directa al DTO: sin entidades administradas ni carga del Team (p.team.teamId sale de la FK)
+    String RESPONSE_SELECT = "SELECT new scoresense.app.dto.PlayerResponse(p.playerId, p.name, p.position, p.age, "
+            + "p.nationality, p.height, p.weight, p.team.teamId) FROM Player p ORDER BY p.playerId";
+
+    @Query(RESPONSE_SELECT)
+    List<PlayerResponse> findAllResponses();
+
+    // Misma proyección en streaming (?stream=true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query(RESPONSE_SELECT)
+    Stream<PlayerResponse> streamAllResponses();
 
     Page<Player> findAll(Pageable pageable);
 
+    // Consultas derivadas en la caché de consultas (región player-queries, ver ehcache.xml);
+    // Hibernate las invalida cuando cambia la tabla players
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "player-queries") })
     List<Player> findByNationality(String nationality);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "player-queries") })
     List<Player> findByPositionAndTeamTeamId(String position, Long teamId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "player-queries") })
     List<Player> findByNationalityAndAgeLessThanEqual(String nationality, Short maxAge);
 }
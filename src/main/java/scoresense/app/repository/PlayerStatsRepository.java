@@ -1,26 +1,71 @@
 package scoresense.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import scoresense.app.dto.PlayerSeasonStatsResponse;
+import scoresense.app.dto.PlayerStatsResponse;
 import scoresense.app.model.PlayerStats;
 
 @Repository
 public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
 
+    // Proyección común: ps.player.playerId / ps.match.matchId se leen de la FK, sin JOIN ni entidades
+    String RESPONSE_SELECT = "SELECT new scoresense.app.dto.PlayerStatsResponse("
+            + "ps.playerStatId, ps.goals, ps.assists, ps.yellowCards, ps.redCards, ps.minutesPlayed, "
+            + "ps.player.playerId, ps.match.matchId) FROM PlayerStats ps ";
+
+    // Totales por jugador y temporada (la temporada es la de la liga del equipo local del partido)
+    String SEASON_TOTALS_SELECT = "SELECT new scoresense.app.dto.PlayerSeasonStatsResponse("
+            + "p.playerId, p.name, l.season, COUNT(ps), SUM(ps.goals), SUM(ps.assists), "
+            + "SUM(ps.yellowCards), SUM(ps.redCards), SUM(ps.minutesPlayed)) "
+            + "FROM PlayerStats ps JOIN ps.player p JOIN ps.match m JOIN m.homeTeam t JOIN t.league l ";
+
+    String SEASON_TOTALS_GROUP = "GROUP BY p.playerId, p.name, l.season ";
+
     // 1. Consulta especializada: Obtener todos paginados
     // (Heredada de JpaRepository, pero explicitada para claridad)
     Page<PlayerStats> findAll(Pageable pageable);
 
     // 2. Consulta especializada: Obtener todos los jugadores con al menos una tarjeta roja
-    // Spring Data JPA infiere: WHERE redCards > 0
-    List<PlayerStats> findByRedCardsGreaterThan(Integer minRedCards);
+    // WHERE redCards > ?, proyectado directamente al DTO
+    @Query(RESPONSE_SELECT + "WHERE ps.redCards > :minRedCards")
+    List<PlayerStatsResponse> findByRedCardsGreaterThan(@Param("minRedCards") Integer minRedCards);
 
     // 3. Consulta especializada: Obtener todos los jugadores que anotaron mínimo X goles
-    // Spring Data JPA infiere: WHERE goals >= ?
-    List<PlayerStats> findByGoalsGreaterThanEqual(Integer minGoals);
+    // WHERE goals >= ?, proyectado directamente al DTO
+    @Query(RESPONSE_SELECT + "WHERE ps.goals >= :minGoals")
+    List<PlayerStatsResponse> findByGoalsGreaterThanEqual(@Param("minGoals") Integer minGoals);
+
+    // 4. Listado completo proyectado (sin cargar Player ni Match)
+    @Query(RESPONSE_SELECT)
+    List<PlayerStatsResponse> findAllResponses();
+
+    // 5. Totales de temporada agregados en la base de datos (todas las temporadas)
+    // Pageable solo aplica LIMIT/OFFSET; no se ejecuta count(*)
+    @Query(SEASON_TOTALS_SELECT + SEASON_TOTALS_GROUP
+            + "ORDER BY SUM(ps.goals) DESC, SUM(ps.assists) DESC, p.playerId")
+    List<PlayerSeasonStatsResponse> findSeasonTotals(Pageable pageable);
+
+    // 6. Totales de una temporada concreta
+    @Query(SEASON_TOTALS_SELECT + "WHERE l.season = :season " + SEASON_TOTALS_GROUP
+            + "ORDER BY SUM(ps.goals) DESC, SUM(ps.assists) DESC, p.playerId")
+    List<PlayerSeasonStatsResponse> findSeasonTotalsBySeason(@Param("season") String season, Pageable pageable);
+
+    // 7. Totales por temporada de un jugador
+    @Query(SEASON_TOTALS_SELECT + "WHERE p.playerId = :playerId " + SEASON_TOTALS_GROUP
+            + "ORDER BY l.season")
+    List<PlayerSeasonStatsResponse> findSeasonTotalsByPlayer(@Param("playerId") Long playerId);
+
+    // 8. Filas de un partido para ciertos jugadores (las mantiene LiveMatchService)
+    @Query("SELECT ps FROM PlayerStats ps WHERE ps.match.matchId = :matchId AND ps.player.playerId IN :playerIds")
+    List<PlayerStats> findByMatchAndPlayers(@Param("matchId") Long matchId,
+            @Param("playerIds") Collection<Long> playerIds);
 }
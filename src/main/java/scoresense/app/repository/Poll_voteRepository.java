@@ -1,9 +1,12 @@
 package scoresense.app.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import scoresense.app.model.Poll_vote;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +15,19 @@ public interface Poll_voteRepository extends JpaRepository<Poll_vote,Long> {
     List<Poll_vote> findByUser_UserId(Long userId);
     List<Poll_vote> findByPoll_PollId(Long pollId);
 
+    // Votos agrupados por encuesta y opción, usado para reconstruir los resultados en memoria
+    @Query("SELECT v.poll.pollId AS pollId, v.optionSelected AS option, COUNT(v) AS votes "
+            + "FROM Poll_vote v GROUP BY v.poll.pollId, v.optionSelected")
+    List<OptionCountView> countVotesByPollAndOption();
+
+    // Usuarios de la lista que ya votaron en la encuesta (índice poll_id, user_id)
+    @Query("SELECT v.user.userId FROM Poll_vote v WHERE v.poll.pollId = :pollId AND v.user.userId IN :userIds")
+    List<Long> findUserIdsWhoVoted(@Param("pollId") Long pollId, @Param("userIds") Collection<Long> userIds);
+
+    interface OptionCountView {
+        Long getPollId();
+        String getOption();
+        Long getVotes();
+    }
+
 }
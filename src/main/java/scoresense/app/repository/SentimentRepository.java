@@ -1,9 +1,34 @@
 package scoresense.app.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
 import scoresense.app.model.Sentiment;
 
 public interface SentimentRepository extends JpaRepository<Sentiment, Long> {
-    
+
+    // Eventos recientes para reconstruir los conteos en memoria; no lee la columna comment
+    @Query("SELECT s.team.teamId AS teamId, s.source AS source, s.sentiment AS sentiment, s.createdAt AS createdAt "
+            + "FROM Sentiment s WHERE s.team IS NOT NULL AND s.createdAt >= :since")
+    List<SentimentEventView> findEventsSince(@Param("since") LocalDateTime since);
+
+    // Listado completo en streaming (?stream=true); el equipo en el mismo SELECT
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query("SELECT s FROM Sentiment s LEFT JOIN FETCH s.team ORDER BY s.sentimentId")
+    Stream<Sentiment> streamAll();
+
+    interface SentimentEventView {
+        Long getTeamId();
+        String getSource();
+        String getSentiment();
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -0,0 +1,12 @@
+package scoresense.app.repository;
+
+// Consultas que devuelven Stream<T>: el driver trae las filas en bloques de FETCH_SIZE en lugar de
+// materializar todo el resultado (en PostgreSQL solo aplica dentro de una transacción).
+// Se consumen dentro de JsonArrayStreamer, que abre la transacción de solo lectura.
+public final class StreamingQuery {
+
+    public static final String FETCH_SIZE = "500";
+
+    private StreamingQuery() {
+    }
+}
@@ -1,9 +1,19 @@
 package scoresense.app.repository;
 
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import jakarta.persistence.QueryHint;
 import scoresense.app.model.TeamStats;
 
 public interface TeamStatRepository extends JpaRepository<TeamStats, Long> {
-    
+
+    // Listado completo en streaming (?stream=true); team y match en el mismo SELECT
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query("SELECT ts FROM TeamStats ts LEFT JOIN FETCH ts.team LEFT JOIN FETCH ts.match ORDER BY ts.teamStatId")
+    Stream<TeamStats> streamAll();
 }
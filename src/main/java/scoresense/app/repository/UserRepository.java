@@ -1,14 +1,26 @@
 package scoresense.app.repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+import scoresense.app.dto.UserResponse;
 import scoresense.app.model.User;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
+
+    // Listado completo en streaming (?stream=true), proyectado al DTO con el rol en el mismo SELECT
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQuery.FETCH_SIZE))
+    @Query("SELECT new scoresense.app.dto.UserResponse(u.userId, u.username, u.email, u.createdAt, r.roleId, r.name) "
+            + "FROM User u LEFT JOIN u.role r ORDER BY u.userId")
+    Stream<UserResponse> streamAllResponses();
 }
@@ -13,7 +13,6 @@ import scoresense.app.mapper.CoachMapper;
 import scoresense.app.model.Coach;
 import scoresense.app.model.Team;
 import scoresense.app.repository.CoachRepository;
-import scoresense.app.repository.TeamRepository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,20 +23,20 @@ import org.springframework.data.domain.Pageable;
 public class CoachService {
 
     private final CoachRepository coachRepository;
-    private final TeamRepository teamRepository;
+    private final ReferenceDataService referenceDataService;
 
-    public CoachService(CoachRepository coachRepository, TeamRepository teamRepository) {
+    public CoachService(CoachRepository coachRepository, ReferenceDataService referenceDataService) {
         this.coachRepository = coachRepository;
-        this.teamRepository = teamRepository;
+        this.referenceDataService = referenceDataService;
     }
 
+    // Solo lectura: proyección al DTO, sin snapshots de dirty-checking ni flush
+    @Transactional(readOnly = true)
     public List<CoachResponse> getAll() {
-        return coachRepository.findAll()
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return coachRepository.findAllResponses();
     }
 
+    @Transactional(readOnly = true)
     public CoachResponse getById(Long id) {
         Coach coach = coachRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Coach", "id", id));
@@ -50,8 +49,7 @@ public class CoachService {
         coach.setNationality(req.getNationality());
         coach.setExperiencedYears(req.getExperiencedYears());
 
-        Team team = teamRepository.findById(req.getTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getTeamId()));
+        Team team = referenceDataService.getTeam(req.getTeamId());
         coach.setTeam(team);
 
         Coach saved = coachRepository.save(coach);
@@ -66,8 +64,7 @@ public class CoachService {
         coach.setNationality(req.getNationality());
         coach.setExperiencedYears(req.getExperiencedYears());
 
-        Team team = teamRepository.findById(req.getTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getTeamId()));
+        Team team = referenceDataService.getTeam(req.getTeamId());
         coach.setTeam(team);
 
         Coach updated = coachRepository.save(coach);
@@ -90,6 +87,7 @@ public class CoachService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
     public List<CoachResponse> findByName(String name) {
         return coachRepository.findByNameIgnoreCase(name)
                 .stream()
@@ -97,6 +95,7 @@ public class CoachService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CoachResponse> findExperiencedCoaches(int years) {
         return coachRepository.findByExperiencedYearsGreaterThanEqual(years)
                 .stream()
@@ -104,11 +103,13 @@ public class CoachService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public Page<CoachResponse> getAllPaged(Pageable pageable) {
     return coachRepository.findAll(pageable)
             .map(CoachMapper::toResponse);
     }
     
+    @Transactional(readOnly = true)
     public List<CoachResponse> findByNationality(String nationality) {
         return coachRepository.findByNationalityIgnoreCase(nationality)
                 .stream()
@@ -2,7 +2,6 @@ package scoresense.app.service;
 
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,17 +40,17 @@ public class ContractService {
         return ContractMapper.toResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public ContractResponse getById(Long id) {
         Contract contract = contractRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Contract", "id", id));
         return ContractMapper.toResponse(contract);
     }
 
+    // Solo lectura: proyección al DTO, sin snapshots de dirty-checking ni flush
+    @Transactional(readOnly = true)
     public List<ContractResponse> getAll() {
-        return contractRepository.findAll()
-                .stream()
-                .map(ContractMapper::toResponse)
-                .collect(Collectors.toList());
+        return contractRepository.findAllResponses();
     }
 
     public ContractResponse update(Long id, ContractRequest req) {
@@ -0,0 +1,90 @@
+package scoresense.app.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Count-min sketch: cuenta apariciones de claves en memoria fija (depth x width contadores).
+// La estimación nunca es menor al valor real; puede sobrestimar por colisiones.
+public final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x27D4EB2F165667C5L,
+        0x85EBCA77C2B2AE63L, 0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    // width se redondea a potencia de 2; depth máximo 8
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth must be between 1 and " + SEEDS.length);
+        }
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.depth = depth;
+        this.mask = size - 1;
+        this.counters = new AtomicLongArray(depth * size);
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    // Posición de la clave en cada fila; se calcula una vez y se reutiliza entre sketches del mismo tamaño
+    public int[] indexes(String key) {
+        int[] indexes = new int[depth];
+        long h = hash(key);
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * (mask + 1) + (int) (mix(h ^ SEEDS[row]) & mask);
+        }
+        return indexes;
+    }
+
+    public void add(int[] indexes, long count) {
+        for (int index : indexes) {
+            counters.addAndGet(index, count);
+        }
+    }
+
+    public void add(String key, long count) {
+        add(indexes(key), count);
+    }
+
+    // Contador de una fila; para estimar sobre varios sketches se suma por fila y luego se toma el mínimo
+    public long cell(int index) {
+        return counters.get(index);
+    }
+
+    public long estimate(String key) {
+        long min = Long.MAX_VALUE;
+        for (int index : indexes(key)) {
+            min = Math.min(min, counters.get(index));
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    // FNV-1a de 64 bits: String.hashCode() solo da 32 bits y sus colisiones afectarían a todas las filas
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,253 @@
+package scoresense.app.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Archivos CSV importables. Las relaciones van por clave natural (nombre de equipo, jugador + equipo,
+// fecha + local + visitante) y se resuelven en SQL contra la tabla de staging, nunca fila por fila.
+// Las columnas opcionales pueden faltar en el encabezado; el orden de las columnas es libre.
+public enum CsvImportDataset {
+
+    PLAYERS("players",
+            List.of(Column.text("name", 100, true), Column.text("position", 50, true),
+                    Column.integer("age", 15, 50, true), Column.text("nationality", 30, true),
+                    Column.integer("height", 100, 250, true), Column.integer("weight", 40, 150, true),
+                    Column.text("team", 100, true)),
+            "t.team_id",
+            "LEFT JOIN teams t ON t.name = p.team",
+            "WHEN team_id IS NULL THEN 'team not found: ' || team",
+            "lower(name), team_id",
+            "SELECT 1 FROM players x WHERE x.team_id = c.team_id AND lower(x.name) = lower(c.name)",
+            "player already exists in this team",
+            "INSERT INTO players (name, position, age, nationality, height, weight, team_id) "
+                    + "SELECT name, position, age, nationality, height, weight, team_id"),
+
+    // Con marcador completo es un resultado final; sin marcador queda programado (igual que MatchService)
+    MATCHES("matches",
+            List.of(Column.date("match_date", true), Column.text("home_team", 100, true),
+                    Column.text("away_team", 100, true), Column.integer("home_score", false),
+                    Column.integer("away_score", false), Column.text("referee", 100, false)),
+            "ht.team_id AS home_team_id, awt.team_id AS away_team_id, rf.referee_id, rf.n AS referee_count",
+            "LEFT JOIN teams ht ON ht.name = p.home_team "
+                    + "LEFT JOIN teams awt ON awt.name = p.away_team "
+                    + "LEFT JOIN (SELECT name, min(referee_id) AS referee_id, count(*) AS n FROM referee GROUP BY name) rf "
+                    + "ON rf.name = p.referee",
+            "WHEN home_team_id IS NULL THEN 'home team not found: ' || home_team "
+                    + "WHEN away_team_id IS NULL THEN 'away team not found: ' || away_team "
+                    + "WHEN home_team_id = away_team_id THEN 'home_team and away_team must be different' "
+                    + "WHEN (home_score IS NULL) <> (away_score IS NULL) THEN 'home_score and away_score go together' "
+                    + "WHEN referee IS NOT NULL AND referee_id IS NULL THEN 'referee not found: ' || referee "
+                    + "WHEN referee_count > 1 THEN 'more than one referee named ' || referee",
+            "match_date, home_team_id, away_team_id",
+            "SELECT 1 FROM matches x WHERE x.match_date = c.match_date "
+                    + "AND x.home_team = c.home_team_id AND x.away_team = c.away_team_id",
+            "match already exists",
+            "INSERT INTO matches (match_date, home_team, away_team, home_score, away_score, status, referee_id) "
+                    + "SELECT match_date, home_team_id, away_team_id, home_score, away_score, "
+                    + "CASE WHEN home_score IS NULL THEN 'SCHEDULED' ELSE 'FINISHED' END, referee_id"),
+
+    // El partido se identifica por fecha, local y visitante; el jugador por nombre y su equipo actual
+    PLAYER_STATS("player_stats",
+            List.of(Column.date("match_date", true), Column.text("home_team", 100, true),
+                    Column.text("away_team", 100, true), Column.text("player", 100, true),
+                    Column.text("team", 100, true), Column.integer("goals", false),
+                    Column.integer("assists", false), Column.integer("yellow_cards", false),
+                    Column.integer("red_cards", false), Column.integer("minutes_played", false)),
+            "ht.team_id AS home_team_id, awt.team_id AS away_team_id, m.match_id, m.n AS match_count, "
+                    + "pt.team_id, pl.player_id, pl.n AS player_count",
+            "LEFT JOIN teams ht ON ht.name = p.home_team "
+                    + "LEFT JOIN teams awt ON awt.name = p.away_team "
+                    + "LEFT JOIN (SELECT match_date, home_team, away_team, min(match_id) AS match_id, count(*) AS n "
+                    + "FROM matches GROUP BY match_date, home_team, away_team) m "
+                    + "ON m.match_date = p.match_date AND m.home_team = ht.team_id AND m.away_team = awt.team_id "
+                    + "LEFT JOIN teams pt ON pt.name = p.team "
+                    + "LEFT JOIN (SELECT team_id, name, min(player_id) AS player_id, count(*) AS n "
+                    + "FROM players GROUP BY team_id, name) pl ON pl.team_id = pt.team_id AND pl.name = p.player",
+            "WHEN home_team_id IS NULL THEN 'home team not found: ' || home_team "
+                    + "WHEN away_team_id IS NULL THEN 'away team not found: ' || away_team "
+                    + "WHEN match_id IS NULL THEN 'no match on ' || match_date || ' between ' || home_team || ' and ' || away_team "
+                    + "WHEN match_count > 1 THEN 'more than one match on ' || match_date || ' between ' || home_team || ' and ' || away_team "
+                    + "WHEN team_id IS NULL THEN 'team not found: ' || team "
+                    + "WHEN player_id IS NULL THEN 'player not found in ' || team || ': ' || player "
+                    + "WHEN player_count > 1 THEN 'more than one player named ' || player || ' in ' || team",
+            "player_id, match_id",
+            "SELECT 1 FROM player_stats x WHERE x.player_id = c.player_id AND x.match_id = c.match_id",
+            "stats already exist for this player and match",
+            "INSERT INTO player_stats (goals, assists, yellow_cards, red_cards, minutes_played, player_id, match_id) "
+                    + "SELECT goals, assists, yellow_cards, red_cards, minutes_played, player_id, match_id");
+
+    static final String STAGING_TABLE = "import_rows";
+    static final String CHECKED_TABLE = "import_checked";
+
+    // Enteros sin signo de hasta 4 dígitos: caben en smallint, como las columnas destino
+    private static final String INTEGER_PATTERN = "^[0-9]{1,4}$";
+    private static final String DATE_PATTERN = "^[1-9][0-9]{3}-(0[1-9]|1[0-2])-(0[1-9]|[12][0-9]|3[01])$";
+
+    private final String table;
+    private final List<Column> columns;
+    private final String resolved;
+    private final String joins;
+    private final String keyChecks;
+    private final String key;
+    private final String existing;
+    private final String existingError;
+    private final String insert;
+
+    CsvImportDataset(String table, List<Column> columns, String resolved, String joins, String keyChecks,
+            String key, String existing, String existingError, String insert) {
+        this.table = table;
+        this.columns = columns;
+        this.resolved = resolved;
+        this.joins = joins;
+        this.keyChecks = keyChecks;
+        this.key = key;
+        this.existing = existing;
+        this.existingError = existingError;
+        this.insert = insert;
+    }
+
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    // Tabla destino: se declara como query space para que Hibernate invalide su caché de consultas
+    public String getTable() {
+        return table;
+    }
+
+    // Columnas del encabezado (ya normalizadas); devuelve el error o null si es válido
+    public String checkHeader(List<String> header) {
+        Set<String> known = columns.stream().map(Column::name).collect(Collectors.toSet());
+        Set<String> seen = new HashSet<>();
+        for (String name : header) {
+            if (!known.contains(name)) {
+                return "unknown column '" + name + "', expected " + columnNames();
+            }
+            if (!seen.add(name)) {
+                return "duplicate column '" + name + "'";
+            }
+        }
+        for (Column column : columns) {
+            if (column.required() && !seen.contains(column.name())) {
+                return "missing column '" + column.name() + "', expected " + columnNames();
+            }
+        }
+        return null;
+    }
+
+    public String columnNames() {
+        return columns.stream().map(Column::name).collect(Collectors.joining(","));
+    }
+
+    // Staging: todo texto, así COPY nunca falla por tipos y cada error queda asociado a su fila
+    public String createStaging() {
+        return "CREATE TEMP TABLE " + STAGING_TABLE + " (row_no bigint GENERATED ALWAYS AS IDENTITY, "
+                + columns.stream().map(c -> c.name() + " text").collect(Collectors.joining(", "))
+                + ") ON COMMIT DROP";
+    }
+
+    // El encabezado se le pasa a COPY (HEADER lo salta) para que los números de línea de sus errores
+    // coincidan con los del archivo
+    public String copy(List<String> header) {
+        return "COPY " + STAGING_TABLE + " (" + String.join(", ", header) + ") FROM STDIN WITH (FORMAT csv, HEADER)";
+    }
+
+    // Una sola pasada sobre el staging: convierte tipos sin lanzar errores, resuelve las claves naturales
+    // con joins y deja en error el primer problema de cada fila (o null si la fila es válida).
+    // Las filas repetidas dentro del archivo se rechazan salvo la primera válida.
+    // p va MATERIALIZED: si no, PostgreSQL copia las conversiones en cada uso y las evalúa varias veces por fila.
+    public String check() {
+        List<String> trimmed = new ArrayList<>();
+        List<String> parsed = new ArrayList<>();
+        List<String> checks = new ArrayList<>();
+        for (Column column : columns) {
+            String name = column.name();
+            trimmed.add("nullif(trim(" + name + "), '') AS " + name);
+            switch (column.type()) {
+                case TEXT -> {
+                    parsed.add(name);
+                    if (column.required()) {
+                        checks.add("WHEN " + name + " IS NULL THEN '" + name + " is required'");
+                    }
+                    checks.add("WHEN length(" + name + ") > " + column.max() + " THEN '" + name
+                            + " must be at most " + column.max() + " characters'");
+                }
+                case INTEGER -> {
+                    parsed.add(name + " AS " + name + "_text");
+                    parsed.add("CASE WHEN " + name + " ~ '" + INTEGER_PATTERN + "' THEN " + name + "::int END AS " + name);
+                    addTypeChecks(checks, column, "a whole number");
+                    if (column.max() > 0) {
+                        checks.add("WHEN " + name + " NOT BETWEEN " + column.min() + " AND " + column.max()
+                                + " THEN '" + name + " must be between " + column.min() + " and " + column.max() + "'");
+                    }
+                }
+                case DATE -> {
+                    // make_date(año, mes, 1) + (día - 1): un 31 de febrero pasa a marzo y el texto ya no coincide
+                    String date = "(make_date(split_part(" + name + ", '-', 1)::int, split_part(" + name + ", '-', 2)::int, 1) + "
+                            + "(split_part(" + name + ", '-', 3)::int - 1))";
+                    parsed.add(name + " AS " + name + "_text");
+                    parsed.add("CASE WHEN " + name + " ~ '" + DATE_PATTERN + "' THEN CASE WHEN to_char(" + date
+                            + ", 'YYYY-MM-DD') = " + name + " THEN " + date + " END END AS " + name);
+                    addTypeChecks(checks, column, "a date (yyyy-mm-dd)");
+                }
+            }
+        }
+        return "CREATE TEMP TABLE " + CHECKED_TABLE + " ON COMMIT DROP AS "
+                + "WITH t AS (SELECT row_no, " + String.join(", ", trimmed) + " FROM " + STAGING_TABLE + "), "
+                + "p AS MATERIALIZED (SELECT row_no, " + String.join(", ", parsed) + " FROM t), "
+                + "r AS (SELECT p.*, " + resolved + " FROM p " + joins + "), "
+                + "c AS (SELECT r.*, CASE " + String.join(" ", checks) + " " + keyChecks + " END AS check_error FROM r) "
+                + "SELECT c.*, CASE WHEN check_error IS NOT NULL THEN check_error "
+                + "WHEN row_number() OVER (PARTITION BY check_error IS NULL, " + key + " ORDER BY row_no) > 1 "
+                + "THEN 'duplicate of an earlier row' END AS error FROM c";
+    }
+
+    private static void addTypeChecks(List<String> checks, Column column, String expected) {
+        String name = column.name();
+        if (column.required()) {
+            checks.add("WHEN " + name + "_text IS NULL THEN '" + name + " is required'");
+        }
+        checks.add("WHEN " + name + "_text IS NOT NULL AND " + name + " IS NULL THEN '" + name
+                + " must be " + expected + "'");
+    }
+
+    // Filas válidas que ya están en la tabla destino (un mismo archivo se puede volver a cargar)
+    public String markExisting() {
+        return "UPDATE " + CHECKED_TABLE + " c SET error = '" + existingError + "' WHERE error IS NULL AND EXISTS ("
+                + existing + ")";
+    }
+
+    public String insert() {
+        return insert + " FROM " + CHECKED_TABLE + " WHERE error IS NULL ORDER BY row_no";
+    }
+
+    enum Type {
+        TEXT,
+        INTEGER,
+        DATE
+    }
+
+    // max: largo máximo para TEXT; rango [min, max] para INTEGER (0 = sin rango)
+    record Column(String name, Type type, int min, int max, boolean required) {
+
+        static Column text(String name, int maxLength, boolean required) {
+            return new Column(name, Type.TEXT, 0, maxLength, required);
+        }
+
+        static Column integer(String name, int min, int max, boolean required) {
+            return new Column(name, Type.INTEGER, min, max, required);
+        }
+
+        static Column integer(String name, boolean required) {
+            return new Column(name, Type.INTEGER, 0, 0, required);
+        }
+
+        static Column date(String name, boolean required) {
+            return new Column(name, Type.DATE, 0, 0, required);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package scoresense.app.service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.query.NativeQuery;
+import org.postgresql.PGConnection;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.persistence.EntityManager;
+import scoresense.app.dto.CsvImportResult;
+
+// Importación masiva desde CSV (jugadores, partidos, estadísticas de jugador), en una sola transacción:
+// 1. COPY ... FROM STDIN lleva el cuerpo tal cual a una tabla temporal de staging (todo texto).
+// 2. Un CREATE TABLE AS valida tipos y resuelve las claves naturales con joins (ver CsvImportDataset).
+// 3. Un INSERT ... SELECT carga las filas válidas; las demás se informan con su número de fila.
+// Un CSV mal formado (p. ej. una fila con columnas de más) revierte todo y se informa con la línea
+// que indica PostgreSQL. Requiere PostgreSQL: COPY no tiene equivalente en otras bases.
+@Service
+public class CsvImportService {
+
+    private static final int MAX_ERRORS = 20;
+    private static final int MAX_HEADER_BYTES = 4096;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final StandingsService standingsService;
+
+    public CsvImportService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            EntityManager entityManager, StandingsService standingsService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.standingsService = standingsService;
+    }
+
+    public CsvImportResult importCsv(CsvImportDataset dataset, InputStream body) throws IOException {
+        InputStream in = new BufferedInputStream(body, BUFFER_SIZE);
+        byte[] headerLine = readLine(in);
+        if (headerLine == null) {
+            return failed(dataset, "header: empty body, expected " + dataset.columnNames());
+        }
+        List<String> header = parseHeader(headerLine);
+        String headerError = dataset.checkHeader(header);
+        if (headerError != null) {
+            return failed(dataset, "header: " + headerError);
+        }
+        InputStream csv = new SequenceInputStream(new ByteArrayInputStream(headerLine), in);
+        return transactionTemplate.execute(status -> load(dataset, header, csv, status));
+    }
+
+    private CsvImportResult load(CsvImportDataset dataset, List<String> header, InputStream csv,
+            TransactionStatus status) {
+        Copied copied = jdbcTemplate.execute((ConnectionCallback<Copied>) connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, "CSV import requires PostgreSQL (COPY)");
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(dataset.createStaging());
+            }
+            try {
+                return new Copied(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(dataset.copy(header), csv),
+                        null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SQLException e) {
+                // CSV mal formado: la transacción ya quedó abortada en PostgreSQL
+                status.setRollbackOnly();
+                return new Copied(0, e.getMessage());
+            }
+        });
+        if (copied.error() != null) {
+            return failed(dataset, "CSV: " + copied.error());
+        }
+        long received = copied.rows();
+
+        jdbcTemplate.execute("ANALYZE " + CsvImportDataset.STAGING_TABLE);
+        jdbcTemplate.execute(dataset.check());
+        jdbcTemplate.update(dataset.markExisting());
+        // Por Hibernate para que invalide las consultas cacheadas sobre la tabla (p. ej. player-queries)
+        long inserted = entityManager.createNativeQuery(dataset.insert())
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(dataset.getTable())
+                .executeUpdate();
+        List<String> errors = jdbcTemplate.query("SELECT row_no, error FROM " + CsvImportDataset.CHECKED_TABLE
+                + " WHERE error IS NOT NULL ORDER BY row_no LIMIT " + MAX_ERRORS,
+                (rs, rowNum) -> "row " + rs.getLong(1) + ": " + rs.getString(2));
+
+        if (dataset == CsvImportDataset.MATCHES && inserted > 0) {
+            // La tabla de posiciones se actualiza partido a partido; con una carga masiva se rearma completa
+            AfterCommit.run(standingsService::rebuild);
+        }
+        return CsvImportResult.builder()
+                .dataset(dataset.getName())
+                .received(received)
+                .inserted(inserted)
+                .rejected(received - inserted)
+                .completed(true)
+                .errors(errors)
+                .build();
+    }
+
+    private static CsvImportResult failed(CsvImportDataset dataset, String error) {
+        return CsvImportResult.builder()
+                .dataset(dataset.getName())
+                .received(0L)
+                .inserted(0L)
+                .rejected(0L)
+                .completed(false)
+                .errors(List.of(error))
+                .build();
+    }
+
+    // Primera línea del cuerpo, con su salto de línea (se reenvía a COPY tal cual)
+    private static byte[] readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            line.write(b);
+            if (b == '\n') {
+                break;
+            }
+            if (line.size() > MAX_HEADER_BYTES) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header line is too long");
+            }
+        }
+        return line.size() == 0 ? null : line.toByteArray();
+    }
+
+    // Nombres de columna en minúsculas, sin comillas, espacios ni BOM
+    private static List<String> parseHeader(byte[] line) {
+        String text = new String(line, StandardCharsets.UTF_8).replace("\uFEFF", "").strip();
+        List<String> names = new ArrayList<>();
+        for (String name : text.split(",", -1)) {
+            String clean = name.strip();
+            if (clean.length() >= 2 && clean.startsWith("\"") && clean.endsWith("\"")) {
+                clean = clean.substring(1, clean.length() - 1).strip();
+            }
+            names.add(clean.toLowerCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    // Filas leídas por COPY, o el error de PostgreSQL si el CSV no se pudo leer
+    private record Copied(long rows, String error) {
+    }
+}
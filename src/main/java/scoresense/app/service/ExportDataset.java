@@ -0,0 +1,83 @@
+package scoresense.app.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Conjuntos exportables: hechos de partido unidos a sus dimensiones (liga, equipos, jugador).
+// La liga de un partido es la de su equipo local, igual que en los totales por temporada.
+public enum ExportDataset {
+
+    MATCHES("m.match_id, m.match_date, m.status, l.league_id, l.name AS league, l.season, "
+            + "m.home_team AS home_team_id, ht.name AS home_team, m.away_team AS away_team_id, awt.name AS away_team, "
+            + "m.home_score, m.away_score, m.referee_id",
+            "FROM matches m "
+            + "LEFT JOIN teams ht ON ht.team_id = m.home_team "
+            + "LEFT JOIN leagues l ON l.league_id = ht.league_id "
+            + "LEFT JOIN teams awt ON awt.team_id = m.away_team",
+            "m.match_id"),
+
+    PLAYER_STATS("ps.player_stat_id, ps.match_id, m.match_date, l.league_id, l.season, "
+            + "ps.player_id, p.name AS player, p.position, p.team_id, t.name AS team, "
+            + "ps.goals, ps.assists, ps.yellow_cards, ps.red_cards, ps.minutes_played",
+            "FROM player_stats ps "
+            + "LEFT JOIN matches m ON m.match_id = ps.match_id "
+            + "LEFT JOIN teams ht ON ht.team_id = m.home_team "
+            + "LEFT JOIN leagues l ON l.league_id = ht.league_id "
+            + "LEFT JOIN players p ON p.player_id = ps.player_id "
+            + "LEFT JOIN teams t ON t.team_id = p.team_id",
+            "ps.player_stat_id"),
+
+    TEAM_STATS("ts.team_stat_id, ts.match_id, m.match_date, l.league_id, l.season, "
+            + "ts.team_id, t.name AS team, ts.possesion, ts.shots, ts.fouls, ts.corners",
+            "FROM team_stats ts "
+            + "LEFT JOIN matches m ON m.match_id = ts.match_id "
+            + "LEFT JOIN teams ht ON ht.team_id = m.home_team "
+            + "LEFT JOIN leagues l ON l.league_id = ht.league_id "
+            + "LEFT JOIN teams t ON t.team_id = ts.team_id",
+            "ts.team_stat_id");
+
+    private final String columns;
+    private final String from;
+    private final String orderBy;
+
+    ExportDataset(String columns, String from, String orderBy) {
+        this.columns = columns;
+        this.from = from;
+        this.orderBy = orderBy;
+    }
+
+    // Nombre en la API: matches, player_stats, team_stats
+    public String getName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static ExportDataset fromName(String name) {
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    // Los filtros van como literales porque COPY (SELECT ...) no acepta parámetros;
+    // solo se interpolan LocalDate y Long, nunca texto del cliente
+    String query(LocalDate from, LocalDate to, Long leagueId) {
+        return "SELECT " + columns + " " + this.from + where(from, to, leagueId) + " ORDER BY " + orderBy;
+    }
+
+    String countQuery(LocalDate from, LocalDate to, Long leagueId) {
+        return "SELECT COUNT(*) " + this.from + where(from, to, leagueId);
+    }
+
+    private static String where(LocalDate from, LocalDate to, Long leagueId) {
+        List<String> conditions = new ArrayList<>();
+        if (from != null) {
+            conditions.add("m.match_date >= DATE '" + from + "'");
+        }
+        if (to != null) {
+            conditions.add("m.match_date <= DATE '" + to + "'");
+        }
+        if (leagueId != null) {
+            conditions.add("l.league_id = " + leagueId.longValue());
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+}
@@ -0,0 +1,412 @@
+package scoresense.app.service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import scoresense.app.dto.ExportJobResponse;
+import scoresense.app.dto.ExportRequest;
+import scoresense.app.exception.ResourceNotFoundException;
+
+// Exportaciones analíticas en segundo plano (partidos y estadísticas unidos a sus dimensiones).
+// Crear un trabajo responde al instante; el trabajo corre en un pool propio de
+// scoresense.export.max-concurrent hilos (el resto espera en su cola, en QUEUED), y deja el archivo en
+// scoresense.export.dir. No usa el applicationTaskExecutor: una exportación ocupa su hilo varios minutos
+// y ahí corren los envíos SSE del marcador en vivo.
+// El progreso es filas escritas sobre un COUNT(*) previo con los mismos filtros.
+// - CSV (gzip): en PostgreSQL con COPY (SELECT ...) TO STDOUT directo al GZIPOutputStream; en otras
+//   bases recorriendo el ResultSet.
+// - Parquet: desde un cursor JDBC (fetch size) con ParquetExportWriter.
+// Las consultas corren en una transacción de solo lectura: con réplica configurada se leen de ella.
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private static final int FETCH_SIZE = 1000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public enum Format {
+        CSV("csv.gz", "application/gzip"),
+        PARQUET("parquet", "application/vnd.apache.parquet");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    // Archivo terminado, con el nombre que se sugiere en la descarga
+    public record ExportFile(Path path, String fileName, String contentType) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor;
+    private final MeterRegistry registry;
+    private final Path directory;
+    private final Duration retention;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${scoresense.export.dir:${java.io.tmpdir}/scoresense-exports}") String directory,
+            @Value("${scoresense.export.max-concurrent:2}") int maxConcurrent,
+            @Value("${scoresense.export.retention-hours:24}") long retentionHours) throws IOException {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.registry = registry;
+        this.directory = Files.createDirectories(Paths.get(directory));
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, task -> {
+            Thread thread = new Thread(task, "export-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    // --- TRABAJOS ---
+    public ExportJobResponse start(ExportRequest req) {
+        if (req.getFrom() != null && req.getTo() != null && req.getFrom().isAfter(req.getTo())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        ExportDataset dataset = ExportDataset.fromName(req.getDataset());
+        Format format = req.getFormat() == null ? Format.CSV : Format.valueOf(req.getFormat().toUpperCase(Locale.ROOT));
+        String id = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(id, dataset, format, req.getFrom(), req.getTo(), req.getLeagueId(),
+                directory.resolve(id + "." + format.extension));
+        jobs.put(id, job);
+        executor.execute(() -> run(job));
+        return toResponse(job);
+    }
+
+    public ExportJobResponse getById(String id) {
+        return toResponse(find(id));
+    }
+
+    public List<ExportJobResponse> getAll() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((ExportJob job) -> job.createdAt).reversed())
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public ExportFile getFile(String id) {
+        ExportJob job = find(id);
+        if (job.status != Status.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Export " + id + " is " + job.status);
+        }
+        String fileName = job.dataset.getName() + "-" + job.createdAt.toLocalDate() + "." + job.format.extension;
+        return new ExportFile(job.file, fileName, job.format.contentType);
+    }
+
+    public void delete(String id) {
+        ExportJob job = find(id);
+        if (job.status == Status.QUEUED || job.status == Status.RUNNING) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Export " + id + " is still " + job.status);
+        }
+        jobs.remove(id);
+        deleteQuietly(job.file);
+    }
+
+    // Borra los trabajos vencidos y cualquier archivo del directorio que no sea de un trabajo conocido
+    // (p. ej. de un arranque anterior: el registro de trabajos vive en memoria)
+    @Scheduled(fixedRateString = "${scoresense.export.cleanup-rate-ms:900000}")
+    public void removeExpired() {
+        LocalDateTime limit = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(limit));
+        Set<Path> live = jobs.values().stream().map(job -> job.file).collect(Collectors.toSet());
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !live.contains(file)).forEach(ExportService::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Could not clean export directory {}: {}", directory, e.toString());
+        }
+    }
+
+    // Al apagar se interrumpen los trabajos en curso; el registro vive en memoria y se pierde igual
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private ExportJob find(String id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export", "id", id);
+        }
+        return job;
+    }
+
+    // --- EJECUCIÓN ---
+    private void run(ExportJob job) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            job.status = Status.RUNNING;
+            readOnlyTransaction.executeWithoutResult(tx -> {
+                job.totalRows = jdbcTemplate.queryForObject(
+                        job.dataset.countQuery(job.from, job.to, job.leagueId), Long.class);
+                String sql = job.dataset.query(job.from, job.to, job.leagueId);
+                if (job.format == Format.CSV) {
+                    writeCsv(job, sql);
+                } else {
+                    writeParquet(job, sql);
+                }
+            });
+            job.sizeBytes = Files.size(job.file);
+            job.finishedAt = LocalDateTime.now();
+            job.status = Status.COMPLETED;
+            log.info("Export {} ({} {}) wrote {} rows, {} bytes", job.id, job.dataset.getName(),
+                    job.format, job.rowsWritten.get(), job.sizeBytes);
+        } catch (RuntimeException | IOException e) {
+            outcome = "error";
+            log.warn("Export {} ({} {}) failed", job.id, job.dataset.getName(), job.format, e);
+            deleteQuietly(job.file);
+            job.fail(e);
+        } finally {
+            sample.stop(registry.timer("scoresense.export", "dataset", job.dataset.getName(),
+                    "format", job.format.name().toLowerCase(Locale.ROOT), "outcome", outcome));
+        }
+    }
+
+    private void writeCsv(ExportJob job, String sql) {
+        try (OutputStream out = new RowCountingOutputStream(new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(job.file), BUFFER_SIZE), BUFFER_SIZE), job.rowsWritten)) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try {
+                    if (connection.isWrapperFor(PGConnection.class)) {
+                        long rows = connection.unwrap(PGConnection.class).getCopyAPI()
+                                .copyOut("COPY (" + sql + ") TO STDOUT WITH (FORMAT csv, HEADER)", out);
+                        job.rowsWritten.set(rows);
+                    } else {
+                        jdbcTemplate.query(sql, (ResultSetExtractor<Void>) rs -> {
+                            writeCsvRows(rs, out);
+                            return null;
+                        });
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Mismo formato que COPY ... (FORMAT csv, HEADER): comillas solo cuando hacen falta, NULL vacío
+    private static void writeCsvRows(ResultSet rs, OutputStream out) throws SQLException {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columns = metaData.getColumnCount();
+            for (int i = 1; i <= columns; i++) {
+                writeCsvValue(writer, metaData.getColumnLabel(i), i == columns);
+            }
+            while (rs.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    writeCsvValue(writer, rs.getString(i), i == columns);
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsvValue(Writer writer, String value, boolean last) throws IOException {
+        if (value != null) {
+            if (value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write(last ? '\n' : ',');
+    }
+
+    private void writeParquet(ExportJob job, String sql) {
+        jdbcTemplate.query(sql, (ResultSetExtractor<Void>) rs -> {
+            try (ParquetExportWriter writer = new ParquetExportWriter(job.file, rs.getMetaData())) {
+                while (rs.next()) {
+                    writer.write(rs);
+                    job.rowsWritten.incrementAndGet();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", file, e.toString());
+        }
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        long rows = job.rowsWritten.get();
+        Long total = job.totalRows;
+        Double progress = null;
+        if (job.status == Status.COMPLETED) {
+            progress = 100.0;
+        } else if (total != null) {
+            progress = total == 0 ? 0.0 : Math.min(100.0, Math.round(rows * 1000.0 / total) / 10.0);
+        }
+        return ExportJobResponse.builder()
+                .jobId(job.id)
+                .dataset(job.dataset.getName())
+                .format(job.format.name().toLowerCase(Locale.ROOT))
+                .from(job.from)
+                .to(job.to)
+                .leagueId(job.leagueId)
+                .status(job.status.name())
+                .rowsWritten(rows)
+                .totalRows(total)
+                .progress(progress)
+                .sizeBytes(job.sizeBytes)
+                .createdAt(job.createdAt)
+                .finishedAt(job.finishedAt)
+                .error(job.error)
+                .downloadUrl(job.status == Status.COMPLETED ? "/api/exports/" + job.id + "/file" : null)
+                .build();
+    }
+
+    // Estado de un trabajo: lo escribe solo el hilo que lo ejecuta y lo leen los requests de consulta
+    private static final class ExportJob {
+
+        final String id;
+        final ExportDataset dataset;
+        final Format format;
+        final LocalDate from;
+        final LocalDate to;
+        final Long leagueId;
+        final Path file;
+        final LocalDateTime createdAt = LocalDateTime.now();
+        final AtomicLong rowsWritten = new AtomicLong();
+        volatile Status status = Status.QUEUED;
+        volatile Long totalRows;
+        volatile Long sizeBytes;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        ExportJob(String id, ExportDataset dataset, Format format, LocalDate from, LocalDate to, Long leagueId,
+                Path file) {
+            this.id = id;
+            this.dataset = dataset;
+            this.format = format;
+            this.from = from;
+            this.to = to;
+            this.leagueId = leagueId;
+            this.file = file;
+        }
+
+        void fail(Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finishedAt = LocalDateTime.now();
+            status = Status.FAILED;
+        }
+    }
+
+    // Progreso de COPY: cuenta filas por saltos de línea (menos el encabezado) a medida que llegan
+    private static final class RowCountingOutputStream extends FilterOutputStream {
+
+        private final AtomicLong rows;
+        private boolean header = true;
+
+        RowCountingOutputStream(OutputStream out, AtomicLong rows) {
+            super(out);
+            this.rows = rows;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int lines = 0;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+            if (lines > 0) {
+                if (header) {
+                    header = false;
+                    lines--;
+                }
+                rows.addAndGet(lines);
+            }
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package scoresense.app.service;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.FavoriteRequest;
 import scoresense.app.dto.FavoriteResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.FavoriteMapper;
 import scoresense.app.model.Favorite;
 import scoresense.app.model.User;
+import scoresense.app.repository.KeysetCursor;
 import scoresense.app.repository.FavoriteRepository;
 import scoresense.app.repository.UserRepository; // Asumiendo que existe para validar usuarios
 
@@ -20,23 +26,37 @@ import scoresense.app.repository.UserRepository; // Asumiendo que existe para va
 @Transactional
 public class FavoriteService {
 
+    // Orden del keyset: debe terminar en el ID para que el cursor sea único
+    private static final Sort CURSOR_SORT = Sort.by("favoriteId");
+
     private final FavoriteRepository favoriteRepository;
     private final UserRepository userRepository;
+    private final FollowerCountService followerCountService;
 
-    public FavoriteService(FavoriteRepository favoriteRepository, UserRepository userRepository) {
+    public FavoriteService(FavoriteRepository favoriteRepository, UserRepository userRepository,
+            FollowerCountService followerCountService) {
         this.favoriteRepository = favoriteRepository;
         this.userRepository = userRepository;
+        this.followerCountService = followerCountService;
     }
 
     // --- CRUD BÁSICO ---
     // Obtener todos los favoritos sin paginación
+    @Transactional(readOnly = true)
     public List<FavoriteResponse> getAll() {
         return favoriteRepository.findAll().stream()
                 .map(FavoriteMapper::toResponse)
                 .toList();
     }
 
+    // Streaming (?stream=true): el Stream se consume dentro de la transacción de JsonArrayStreamer
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<FavoriteResponse> streamAll() {
+        return favoriteRepository.streamAllResponses();
+    }
+
     // Obtener por ID
+    @Transactional(readOnly = true)
     public FavoriteResponse getById(Long id) {
         Favorite favorite = favoriteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Favorite", "id", id));
@@ -56,6 +76,7 @@ public class FavoriteService {
         favorite.setUser(user);
 
         Favorite saved = favoriteRepository.save(favorite);
+        AfterCommit.run(() -> followerCountService.increment(saved.getEntityType(), saved.getEntityId()));
         return FavoriteMapper.toResponse(saved);
     }
 
@@ -63,6 +84,8 @@ public class FavoriteService {
     public FavoriteResponse update(Long id, FavoriteRequest req) {
         Favorite existingFavorite = favoriteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Favorite", "id", id));
+        String previousType = existingFavorite.getEntityType();
+        Long previousId = existingFavorite.getEntityId();
 
         FavoriteMapper.copyToEntity(req, existingFavorite);
 
@@ -73,25 +96,41 @@ public class FavoriteService {
         }
 
         Favorite updated = favoriteRepository.save(existingFavorite);
+        if (!previousType.equals(updated.getEntityType()) || !previousId.equals(updated.getEntityId())) {
+            AfterCommit.run(() -> {
+                followerCountService.decrement(previousType, previousId);
+                followerCountService.increment(updated.getEntityType(), updated.getEntityId());
+            });
+        }
         return FavoriteMapper.toResponse(updated);
     }
 
     // Eliminar favorito
     public void delete(Long id) {
-        if (!favoriteRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Favorite", "id", id);
-        }
-        favoriteRepository.deleteById(id);
+        Favorite favorite = favoriteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Favorite", "id", id));
+        favoriteRepository.delete(favorite);
+        AfterCommit.run(() -> followerCountService.decrement(favorite.getEntityType(), favorite.getEntityId()));
     }
 
     // --- CONSULTAS ESPECIALIZADAS ---
     // Obtener todos paginado
+    @Transactional(readOnly = true)
     public Page<FavoriteResponse> getAllPaged(Pageable pageable) {
         return favoriteRepository.findAll(pageable)
                 .map(FavoriteMapper::toResponse);
     }
 
+    // Paginación por cursor (keyset): sin count(*) y con costo constante por página
+    @Transactional(readOnly = true)
+    public CursorPage<FavoriteResponse> getAllByCursor(String cursor, int size) {
+        return KeysetCursor.toPage(
+                favoriteRepository.findBy(KeysetCursor.decode(cursor, CURSOR_SORT), CURSOR_SORT, KeysetCursor.limit(size)),
+                FavoriteMapper::toResponse);
+    }
+
     // Obtener favoritos por usuario (Sin paginación)
+    @Transactional(readOnly = true)
     public List<FavoriteResponse> findByUser(Long userId) {
         // Validar si el usuario existe primero es opcional, pero buena práctica
         if (!userRepository.existsById(userId)) {
@@ -103,15 +142,25 @@ public class FavoriteService {
     }
 
     // Obtener favoritos que son de un equipo específico (team_id)
-    // Esta lógica filtra en memoria o podrías agregar un método en el repositorio: findByEntityTypeAndEntityId
+    @Transactional(readOnly = true)
     public List<FavoriteResponse> findUsersWhoFavoritedTeam(Long teamId) {
-        // Opción A: Filtrar en base de datos (más eficiente) -> Requiere método en Repo
-        // Opción B: Filtrar aquí (menos eficiente si hay muchos datos)
-        // Usaremos Opción A asumiendo que agregas al repo: List<Favorite> findByEntityTypeAndEntityId(String type, Long id);
-        // Por ahora, simulamos con stream si no quieres modificar el repo:
-        return favoriteRepository.findAll().stream()
-                .filter(f -> "team".equalsIgnoreCase(f.getEntityType()) && f.getEntityId().equals(teamId))
-                .map(FavoriteMapper::toResponse)
-                .toList();
+        return favoriteRepository.findResponsesByEntity("team", teamId);
+    }
+
+    // Seguidores de un equipo o jugador, paginados (índice entity_type, entity_id)
+    @Transactional(readOnly = true)
+    public Page<FavoriteResponse> findFollowers(String entityType, Long entityId, Pageable pageable) {
+        return favoriteRepository.findResponsesByEntity(normalizeType(entityType), entityId, pageable);
+    }
+
+    // Número de seguidores, servido desde memoria tras la primera consulta.
+    // Sin transacción: la carga inicial abre la suya en el primario (FollowerCountService)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long countFollowers(String entityType, Long entityId) {
+        return followerCountService.getCount(normalizeType(entityType), entityId);
+    }
+
+    private static String normalizeType(String entityType) {
+        return entityType.toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,76 @@
+package scoresense.app.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+
+import scoresense.app.repository.FavoriteRepository;
+
+// Conteo de seguidores por entidad (equipo o jugador) mantenido en memoria.
+// Se carga bajo demanda con un COUNT sobre el índice (entity_type, entity_id) y luego
+// se ajusta con los favoritos creados/eliminados ya confirmados.
+// Caffeine acota las entradas por tamaño y por tiempo. El TTL corto también acota el error de un
+// ajuste que se cruza con la carga sin que se note (el COUNT ya vio el favorito y el ajuste
+// posterior al commit lo vuelve a sumar): dura a lo sumo hasta que la entrada expira.
+@Service
+public class FollowerCountService {
+
+    private final FavoriteRepository favoriteRepository;
+    // El COUNT inicial va al primario: con réplica atrasada se perderían los favoritos recientes
+    private final TransactionTemplate transactionTemplate;
+
+    private final Cache<EntityKey, Long> counts;
+    // Generación: cada ajuste la incrementa antes de tocar la caché
+    private final AtomicLong generation = new AtomicLong();
+
+    public FollowerCountService(FavoriteRepository favoriteRepository, PlatformTransactionManager transactionManager,
+            @Value("${scoresense.favorites.follower-counts.spec:maximumSize=100000,expireAfterWrite=60s}") String spec) {
+        this.favoriteRepository = favoriteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.counts = Caffeine.from(CaffeineSpec.parse(spec)).build();
+    }
+
+    // --- CONSULTAS ---
+    // El COUNT corre fuera de la caché: dentro de get(key, loader) bloquearía a otras claves del mismo bin
+    public long getCount(String entityType, Long entityId) {
+        EntityKey key = new EntityKey(entityType, entityId);
+        Long cached = counts.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        long count = transactionTemplate.execute(
+                status -> favoriteRepository.countByEntityTypeAndEntityId(entityType, entityId));
+        counts.asMap().putIfAbsent(key, count);
+        if (generation.get() != loadedAt) {
+            // Un ajuste se cruzó con el COUNT: no se sabe si lo incluye, la próxima lectura recarga
+            counts.invalidate(key);
+        }
+        return count;
+    }
+
+    // --- ACTUALIZACIÓN INCREMENTAL ---
+    // Solo se ajustan entradas ya cargadas; si no está en memoria, la próxima lectura
+    // la obtiene de la base de datos con el cambio incluido.
+    public void increment(String entityType, Long entityId) {
+        generation.incrementAndGet();
+        counts.asMap().computeIfPresent(new EntityKey(entityType, entityId), (key, count) -> count + 1);
+    }
+
+    public void decrement(String entityType, Long entityId) {
+        generation.incrementAndGet();
+        counts.asMap().computeIfPresent(new EntityKey(entityType, entityId), (key, count) -> Math.max(0, count - 1));
+    }
+
+    private record EntityKey(String entityType, Long entityId) {
+    }
+}
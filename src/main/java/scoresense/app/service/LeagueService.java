@@ -5,27 +5,37 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.config.CacheConfig;
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.LeagueRequest;
 import scoresense.app.dto.LeagueResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.LeagueMapper;
 import scoresense.app.model.League;
+import scoresense.app.repository.KeysetCursor;
 import scoresense.app.repository.LeagueRepository;
 
 @Service
 @Transactional
 public class LeagueService {
 
+    // Orden del keyset: debe terminar en el ID para que el cursor sea único
+    private static final Sort CURSOR_SORT = Sort.by("leagueId");
+
     private final LeagueRepository leagueRepository;
 
     public LeagueService(LeagueRepository leagueRepository) {
         this.leagueRepository = leagueRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<LeagueResponse> getAll() {
         return leagueRepository.findAll()
                 .stream()
@@ -33,6 +43,7 @@ public class LeagueService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public LeagueResponse getById(Long id) {
         League league = leagueRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("League", "id", id));
@@ -50,6 +61,10 @@ public class LeagueService {
         return toResponse(saved);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.LEAGUES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TEAMS, allEntries = true) // los equipos cacheados incluyen su liga
+    })
     public LeagueResponse update(Long id, LeagueRequest req) {
         League league = leagueRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("League", "id", id));
@@ -63,11 +78,24 @@ public class LeagueService {
         return toResponse(updated);
     }
 
+    @Transactional(readOnly = true)
     public Page<LeagueResponse> getAllPaged(Pageable pageable) {
         return leagueRepository.findAll(pageable)
                 .map(LeagueMapper::toResponse);
     }
 
+    // Paginación por cursor (keyset): sin count(*) y con costo constante por página
+    @Transactional(readOnly = true)
+    public CursorPage<LeagueResponse> getAllByCursor(String cursor, int size) {
+        return KeysetCursor.toPage(
+                leagueRepository.findBy(KeysetCursor.decode(cursor, CURSOR_SORT), CURSOR_SORT, KeysetCursor.limit(size)),
+                LeagueMapper::toResponse);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.LEAGUES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TEAMS, allEntries = true) // los equipos cacheados incluyen su liga
+    })
     public void delete(Long id) {
         League league = leagueRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("League", "id", id));
@@ -0,0 +1,474 @@
+package scoresense.app.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import scoresense.app.dto.LiveMatchResponse;
+import scoresense.app.dto.MatchEventRequest;
+import scoresense.app.dto.MatchEventResponse;
+import scoresense.app.dto.PlayerStatsResponse;
+import scoresense.app.exception.ResourceNotFoundException;
+import scoresense.app.model.Match;
+import scoresense.app.model.MatchEvent;
+import scoresense.app.model.Player;
+import scoresense.app.model.PlayerStats;
+import scoresense.app.repository.MatchEventRepository;
+import scoresense.app.repository.MatchRepository;
+import scoresense.app.repository.PlayerRepository;
+import scoresense.app.repository.PlayerStatsRepository;
+import scoresense.app.repository.TeamRepository;
+
+// Partidos en vivo: línea de tiempo de eventos (goles, tarjetas, cambios) y estado derivado en memoria.
+// Cada evento se valida, se aplica al estado del partido (marcador y estadísticas por jugador) y se
+// encola; un único hilo lo guarda por lotes en match_events y, en la misma transacción, escribe el
+// marcador de matches y las filas de player_stats del partido a partir de ese estado.
+// Las lecturas devuelven la última instantánea inmutable, sin consultar la base de datos, y cada
+// cambio se difunde a los suscriptores del partido (MatchBroadcastService).
+@Service
+public class LiveMatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveMatchService.class);
+
+    private final MatchRepository matchRepository;
+    private final MatchEventRepository matchEventRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerStatsRepository playerStatsRepository;
+    private final TeamRepository teamRepository;
+    private final StandingsService standingsService;
+    private final MatchBroadcastService matchBroadcastService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final BlockingQueue<PendingEvent> queue;
+
+    // Solo partidos programados o en curso; los finalizados se leen de la base de datos
+    private final Map<Long, LiveMatch> live = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public LiveMatchService(MatchRepository matchRepository, MatchEventRepository matchEventRepository,
+            PlayerRepository playerRepository, PlayerStatsRepository playerStatsRepository,
+            TeamRepository teamRepository, StandingsService standingsService,
+            MatchBroadcastService matchBroadcastService, PlatformTransactionManager transactionManager,
+            @Value("${scoresense.matches.events.queue-capacity:10000}") int queueCapacity,
+            @Value("${scoresense.matches.events.batch-size:200}") int batchSize,
+            @Value("${scoresense.matches.events.offer-timeout-ms:100}") long offerTimeoutMs) {
+        this.matchRepository = matchRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.playerRepository = playerRepository;
+        this.playerStatsRepository = playerStatsRepository;
+        this.teamRepository = teamRepository;
+        this.standingsService = standingsService;
+        this.matchBroadcastService = matchBroadcastService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    // --- CARGA INICIAL ---
+    @PostConstruct
+    public void start() {
+        // En el primario, como state(): los eventos recién guardados pueden no estar en la réplica
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Match match : matchRepository.findByStatus(Match.Status.LIVE)) {
+                live.put(match.getMatchId(), load(match));
+            }
+        });
+        running = true;
+        flusher = new Thread(this::flushLoop, "match-events");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Al apagar se deja de aceptar y se vacía lo pendiente antes de salir
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // --- INGESTA ---
+    public LiveMatchResponse submit(Long matchId, MatchEventRequest req) {
+        MatchEvent.Type type = parseType(req.getType());
+        LiveMatch match = state(matchId);
+
+        Long teamId = null;
+        if (type != MatchEvent.Type.FULL_TIME) {
+            if (req.getPlayerId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "playerId is required for " + type);
+            }
+            if (type == MatchEvent.Type.SUBSTITUTION && req.getRelatedPlayerId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "relatedPlayerId (player coming on) is required for " + type);
+            }
+            teamId = teamOf(match, req.getPlayerId());
+            if (req.getRelatedPlayerId() != null && !teamId.equals(teamOf(match, req.getRelatedPlayerId()))) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Player " + req.getRelatedPlayerId() + " does not play for team " + teamId);
+            }
+        }
+
+        PendingEvent event = new PendingEvent(matchId, type, req.getMinute(), req.getPlayerId(),
+                req.getRelatedPlayerId(), teamId, LocalDateTime.now());
+        // Encolar y aplicar bajo el mismo candado mantiene el orden de la cola igual al de la memoria.
+        // ReentrantLock y no synchronized: offer() puede esperar, y con hilos virtuales (Java 21)
+        // esperar dentro de synchronized fija el hilo portador.
+        match.lock.lock();
+        try {
+            if (match.status == Match.Status.FINISHED) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Match " + matchId + " is already finished");
+            }
+            offer(event);
+            match.apply(event);
+            matchBroadcastService.publish(match.snapshot);
+            return match.snapshot;
+        } finally {
+            match.lock.unlock();
+        }
+    }
+
+    // --- CONSULTAS ---
+    public LiveMatchResponse getLive(Long matchId) {
+        return state(matchId).snapshot;
+    }
+
+    public List<MatchEventResponse> getTimeline(Long matchId) {
+        return state(matchId).snapshot.getEvents();
+    }
+
+    private LiveMatch state(Long matchId) {
+        LiveMatch match = live.get(matchId);
+        if (match != null) {
+            return match;
+        }
+        // En una transacción de lectura-escritura: con réplica, un partido recién creado ya está en el primario
+        LiveMatch loaded = transactionTemplate.execute(status -> load(matchRepository.findById(matchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Match", "id", matchId))));
+        if (loaded.status == Match.Status.FINISHED) {
+            return loaded;
+        }
+        LiveMatch existing = live.putIfAbsent(matchId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    // Reconstruye el estado reproduciendo la línea de tiempo guardada
+    private LiveMatch load(Match entity) {
+        LiveMatch match = new LiveMatch(entity.getMatchId(), entity.getHomeTeam().getTeamId(),
+                entity.getAwayTeam().getTeamId());
+        List<MatchEventRepository.MatchEventView> timeline = matchEventRepository.findTimeline(entity.getMatchId());
+        if (timeline.isEmpty()) {
+            // Sin eventos: resultado cargado a mano o partido aún sin empezar
+            match.homeScore = entity.getHomeScore();
+            match.awayScore = entity.getAwayScore();
+            match.status = entity.getStatus() != null ? entity.getStatus()
+                    : entity.getHomeScore() != null && entity.getAwayScore() != null
+                            ? Match.Status.FINISHED : Match.Status.SCHEDULED;
+            match.publish();
+            return match;
+        }
+        for (MatchEventRepository.MatchEventView e : timeline) {
+            match.apply(new PendingEvent(entity.getMatchId(), e.getEventType(), e.getMinute(), e.getPlayerId(),
+                    e.getRelatedPlayerId(), e.getTeamId(), e.getCreatedAt()));
+        }
+        return match;
+    }
+
+    private Long teamOf(LiveMatch match, Long playerId) {
+        // Player está en la caché de segundo nivel: normalmente no llega a la base de datos
+        // Dentro de una transacción de lectura-escritura por la misma razón que state()
+        Player player = transactionTemplate.execute(status -> playerRepository.findById(playerId))
+                .orElseThrow(() -> new ResourceNotFoundException("Player", "id", playerId));
+        Long teamId = player.getTeam() != null ? player.getTeam().getTeamId() : null;
+        if (teamId == null || (!teamId.equals(match.homeTeamId) && !teamId.equals(match.awayTeamId))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Player " + playerId + " does not play for either team of match " + match.matchId);
+        }
+        return teamId;
+    }
+
+    private static MatchEvent.Type parseType(String type) {
+        try {
+            return MatchEvent.Type.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown event type '" + type
+                    + "', expected GOAL, OWN_GOAL, YELLOW_CARD, RED_CARD, SUBSTITUTION or FULL_TIME");
+        }
+    }
+
+    private void offer(PendingEvent event) {
+        boolean queued;
+        try {
+            queued = queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Match event queue is full, retry later");
+        }
+    }
+
+    // --- ESCRITURA POR LOTES ---
+    private void flushLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                // stop(): se sigue vaciando la cola sin esperar
+                queue.drainTo(batch, batchSize);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+        } catch (RuntimeException e) {
+            // Un evento inválido (p. ej. jugador borrado) no debe tirar todo el lote
+            log.warn("Match event batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingEvent event : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(event)));
+                } catch (RuntimeException single) {
+                    // La memoria ya incluye el evento perdido: se descarta y se recarga desde la base de datos
+                    log.error("Dropping match event {} of match {}: {}", event.type(), event.matchId(),
+                            single.getMessage());
+                    live.remove(event.matchId());
+                }
+            }
+        }
+    }
+
+    private void persist(List<PendingEvent> batch) {
+        Set<Long> matchIds = new LinkedHashSet<>();
+        List<MatchEvent> rows = new ArrayList<>(batch.size());
+        for (PendingEvent event : batch) {
+            matchIds.add(event.matchId());
+            MatchEvent row = new MatchEvent();
+            row.setMatch(matchRepository.getReferenceById(event.matchId()));
+            row.setEventType(event.type());
+            row.setMinute(event.minute());
+            row.setPlayer(event.playerId() != null ? playerRepository.getReferenceById(event.playerId()) : null);
+            row.setRelatedPlayer(event.relatedPlayerId() != null
+                    ? playerRepository.getReferenceById(event.relatedPlayerId()) : null);
+            row.setTeam(event.teamId() != null ? teamRepository.getReferenceById(event.teamId()) : null);
+            row.setCreatedAt(event.createdAt());
+            rows.add(row);
+        }
+        matchEventRepository.saveAll(rows);
+        matchEventRepository.flush();
+
+        // Estado derivado: se escribe el valor actual de la memoria (idempotente ante reintentos)
+        for (Long matchId : matchIds) {
+            LiveMatch match = live.get(matchId);
+            if (match == null) {
+                continue;
+            }
+            LiveMatchResponse state = match.snapshot;
+            Match.Status status = Match.Status.valueOf(state.getStatus());
+            matchRepository.updateLiveState(matchId, state.getHomeScore(), state.getAwayScore(), status);
+            writePlayerStats(matchId, state.getPlayerStats());
+            if (status == Match.Status.FINISHED) {
+                Match finished = matchRepository.findById(matchId).orElseThrow();
+                AfterCommit.run(() -> {
+                    standingsService.recordMatch(finished);
+                    live.remove(matchId, match);
+                });
+            }
+        }
+    }
+
+    private void writePlayerStats(Long matchId, List<PlayerStatsResponse> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        Map<Long, PlayerStats> existing = new HashMap<>();
+        List<Long> playerIds = lines.stream().map(PlayerStatsResponse::getPlayerId).toList();
+        for (PlayerStats row : playerStatsRepository.findByMatchAndPlayers(matchId, playerIds)) {
+            existing.putIfAbsent(row.getPlayer().getPlayerId(), row);
+        }
+        List<PlayerStats> rows = new ArrayList<>(lines.size());
+        for (PlayerStatsResponse line : lines) {
+            PlayerStats row = existing.get(line.getPlayerId());
+            if (row == null) {
+                row = new PlayerStats();
+                row.setMatch(matchRepository.getReferenceById(matchId));
+                row.setPlayer(playerRepository.getReferenceById(line.getPlayerId()));
+            }
+            row.setGoals(line.getGoals());
+            row.setAssists(line.getAssists());
+            row.setYellowCards(line.getYellowCards());
+            row.setRedCards(line.getRedCards());
+            row.setMinutesPlayed(line.getMinutesPlayed());
+            rows.add(row);
+        }
+        playerStatsRepository.saveAll(rows);
+    }
+
+    private record PendingEvent(Long matchId, MatchEvent.Type type, Integer minute, Long playerId,
+            Long relatedPlayerId, Long teamId, LocalDateTime createdAt) {
+    }
+
+    // Estado de un partido; se modifica bajo su candado y publica una instantánea inmutable
+    private static final class LiveMatch {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Long matchId;
+        private final Long homeTeamId;
+        private final Long awayTeamId;
+        private Match.Status status = Match.Status.SCHEDULED;
+        private Integer homeScore;
+        private Integer awayScore;
+        private int minute;
+        private final List<MatchEventResponse> events = new ArrayList<>();
+        private final Map<Long, PlayerLine> players = new LinkedHashMap<>();
+        private volatile LiveMatchResponse snapshot;
+
+        LiveMatch(Long matchId, Long homeTeamId, Long awayTeamId) {
+            this.matchId = matchId;
+            this.homeTeamId = homeTeamId;
+            this.awayTeamId = awayTeamId;
+        }
+
+        void apply(PendingEvent event) {
+            if (status == Match.Status.SCHEDULED) {
+                status = Match.Status.LIVE;
+                homeScore = 0;
+                awayScore = 0;
+            }
+            int at = event.minute();
+            minute = Math.max(minute, at);
+            switch (event.type()) {
+                case GOAL -> {
+                    line(event.playerId()).goals++;
+                    if (event.relatedPlayerId() != null) {
+                        line(event.relatedPlayerId()).assists++;
+                    }
+                    score(event.teamId());
+                }
+                case OWN_GOAL -> score(event.teamId().equals(homeTeamId) ? awayTeamId : homeTeamId);
+                case YELLOW_CARD -> {
+                    PlayerLine line = line(event.playerId());
+                    line.yellowCards++;
+                    // Segunda amarilla = expulsión
+                    if (line.yellowCards == 2) {
+                        line.sendOff(at);
+                    }
+                }
+                case RED_CARD -> line(event.playerId()).sendOff(at);
+                case SUBSTITUTION -> {
+                    line(event.playerId()).offMinute = at;
+                    line(event.relatedPlayerId()).onMinute = at;
+                }
+                case FULL_TIME -> status = Match.Status.FINISHED;
+            }
+            events.add(MatchEventResponse.builder()
+                    .type(event.type().name())
+                    .minute(at)
+                    .playerId(event.playerId())
+                    .relatedPlayerId(event.relatedPlayerId())
+                    .teamId(event.teamId())
+                    .createdAt(event.createdAt())
+                    .build());
+            publish();
+        }
+
+        private PlayerLine line(Long playerId) {
+            return players.computeIfAbsent(playerId, id -> new PlayerLine());
+        }
+
+        private void score(Long teamId) {
+            if (teamId.equals(homeTeamId)) {
+                homeScore++;
+            } else {
+                awayScore++;
+            }
+        }
+
+        void publish() {
+            List<PlayerStatsResponse> stats = new ArrayList<>(players.size());
+            players.forEach((playerId, line) -> stats.add(PlayerStatsResponse.builder()
+                    .playerId(playerId)
+                    .matchId(matchId)
+                    .goals(line.goals)
+                    .assists(line.assists)
+                    .yellowCards(line.yellowCards)
+                    .redCards(line.redCards)
+                    .minutesPlayed(line.minutesPlayed(minute))
+                    .build()));
+            snapshot = LiveMatchResponse.builder()
+                    .matchId(matchId)
+                    .status(status.name())
+                    .minute(minute)
+                    .homeTeamId(homeTeamId)
+                    .awayTeamId(awayTeamId)
+                    .homeScore(homeScore)
+                    .awayScore(awayScore)
+                    .events(List.copyOf(events))
+                    .playerStats(List.copyOf(stats))
+                    .build();
+        }
+    }
+
+    // Jugadores con algún evento; los minutos van de la entrada (0 si fue titular) a la salida o al minuto actual
+    private static final class PlayerLine {
+
+        private int goals;
+        private int assists;
+        private int yellowCards;
+        private int redCards;
+        private Integer onMinute;
+        private Integer offMinute;
+
+        void sendOff(int at) {
+            redCards++;
+            if (offMinute == null) {
+                offMinute = at;
+            }
+        }
+
+        int minutesPlayed(int current) {
+            int from = onMinute != null ? onMinute : 0;
+            int to = offMinute != null ? offMinute : current;
+            return Math.max(0, to - from);
+        }
+    }
+}
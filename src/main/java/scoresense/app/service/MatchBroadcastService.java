@@ -0,0 +1,250 @@
+package scoresense.app.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import scoresense.app.dto.LiveMatchResponse;
+import scoresense.app.dto.MatchEventResponse;
+import scoresense.app.model.Match;
+
+// Canal push (Server-Sent Events) del marcador en vivo.
+// Un conjunto de suscriptores por partido; cada cambio se serializa una sola vez y se entrega a
+// todos. Cada suscriptor tiene un único buzón con el último cuadro pendiente: si el cliente es
+// lento, los cuadros intermedios se reemplazan (el marcador y las estadísticas son absolutos) y
+// nunca hay más de un envío en curso por conexión. Los envíos tienen su propio ejecutor para no
+// competir con el applicationTaskExecutor (MVC async, descargas en streaming): hilos virtuales en
+// Java 21+, y si no, un pool acotado de scoresense.live.push.threads hilos.
+@Service
+public class MatchBroadcastService {
+
+    private static final Frame HEARTBEAT = new Frame(null, null, false);
+
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+
+    private final Map<Long, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final AtomicLong conflated = new AtomicLong();
+
+    public MatchBroadcastService(ObjectMapper objectMapper,
+            @Value("${scoresense.live.push.timeout-ms:1800000}") long timeoutMs,
+            @Value("${scoresense.live.push.max-subscribers:50000}") int maxSubscribers,
+            @Value("${scoresense.live.push.threads:16}") int threads) {
+        this.executor = newExecutor(threads);
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    // Un envío SSE bloquea mientras escribe en el socket: con hilos virtuales no ocupa un hilo del SO
+    private static Executor newExecutor(int threads) {
+        if (Runtime.version().feature() >= 21) {
+            return new VirtualThreadTaskExecutor("live-push-");
+        }
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "live-push-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    // --- SUSCRIPCIÓN ---
+    // Envía el estado completo ("state") y luego solo cambios ("update") hasta que el partido termina
+    public SseEmitter subscribe(Long matchId, Supplier<LiveMatchResponse> current) {
+        LiveMatchResponse state = current.get();
+        if (subscribers.get() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live subscribers, retry later");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            emitter.send(SseEmitter.event().name("state").data(toJson(state)));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        if (Match.Status.FINISHED.name().equals(state.getStatus())) {
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(matchId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> remove(subscriber));
+        channels.computeIfAbsent(matchId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        subscribers.incrementAndGet();
+
+        // Un cambio entre la lectura del estado y el registro no se pierde
+        LiveMatchResponse latest = current.get();
+        if (latest != state) {
+            subscriber.offer(new Frame("update", toJson(toUpdate(latest)), isFinished(latest)));
+        }
+        return emitter;
+    }
+
+    // --- DIFUSIÓN ---
+    public void publish(LiveMatchResponse snapshot) {
+        Set<Subscriber> channel = channels.get(snapshot.getMatchId());
+        if (channel == null || channel.isEmpty()) {
+            return;
+        }
+        Frame frame = new Frame("update", toJson(toUpdate(snapshot)), isFinished(snapshot));
+        for (Subscriber subscriber : channel) {
+            subscriber.offer(frame);
+        }
+        if (frame.last()) {
+            channels.remove(snapshot.getMatchId(), channel);
+        }
+    }
+
+    // Comentario SSE periódico: mantiene viva la conexión y detecta clientes desconectados
+    @Scheduled(fixedRateString = "${scoresense.live.push.heartbeat-ms:15000}")
+    public void heartbeat() {
+        channels.values().forEach(channel -> channel.forEach(Subscriber::heartbeat));
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    public long conflatedCount() {
+        return conflated.get();
+    }
+
+    // Los cambios llevan el marcador y las estadísticas completas, pero solo el último evento
+    private static LiveMatchResponse toUpdate(LiveMatchResponse snapshot) {
+        List<MatchEventResponse> events = snapshot.getEvents();
+        return LiveMatchResponse.builder()
+                .matchId(snapshot.getMatchId())
+                .status(snapshot.getStatus())
+                .minute(snapshot.getMinute())
+                .homeTeamId(snapshot.getHomeTeamId())
+                .awayTeamId(snapshot.getAwayTeamId())
+                .homeScore(snapshot.getHomeScore())
+                .awayScore(snapshot.getAwayScore())
+                .events(events.isEmpty() ? List.of() : events.subList(events.size() - 1, events.size()))
+                .playerStats(snapshot.getPlayerStats())
+                .build();
+    }
+
+    private static boolean isFinished(LiveMatchResponse snapshot) {
+        return Match.Status.FINISHED.name().equals(snapshot.getStatus());
+    }
+
+    private String toJson(LiveMatchResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live match " + response.getMatchId(), e);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.removed.compareAndSet(false, true)) {
+            subscribers.decrementAndGet();
+            Set<Subscriber> channel = channels.get(subscriber.matchId);
+            if (channel != null) {
+                channel.remove(subscriber);
+            }
+        }
+    }
+
+    // last: cuadro con el partido terminado; el emisor se cierra después de enviarlo
+    private record Frame(String name, String data, boolean last) {
+    }
+
+    private final class Subscriber {
+
+        private final Long matchId;
+        private final SseEmitter emitter;
+        private final AtomicReference<Frame> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+
+        Subscriber(Long matchId, SseEmitter emitter) {
+            this.matchId = matchId;
+            this.emitter = emitter;
+        }
+
+        void offer(Frame frame) {
+            // El cuadro final no se reemplaza: ningún cambio posterior puede ser más reciente
+            Frame replaced = pending.getAndUpdate(current -> current != null && current.last() ? current : frame);
+            if (replaced != null && replaced != HEARTBEAT) {
+                conflated.incrementAndGet();
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            if (pending.compareAndSet(null, HEARTBEAT)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        // Un solo envío en curso por suscriptor; al terminar se revisa si llegó otro cuadro
+        private void drain() {
+            try {
+                Frame frame;
+                while ((frame = pending.getAndSet(null)) != null) {
+                    if (frame == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(frame.name()).data(frame.data()));
+                    }
+                    if (frame.last()) {
+                        emitter.complete();
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado o emisor ya cerrado
+                remove(this);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (pending.get() != null && !removed.get()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -1,75 +1,109 @@
 package scoresense.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.MatchRequest;
 import scoresense.app.dto.MatchResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.MatchMapper;
 import scoresense.app.model.Match;
-import scoresense.app.model.Team;
+import scoresense.app.repository.KeysetCursor;
 import scoresense.app.repository.MatchRepository;
-import scoresense.app.repository.TeamRepository;
-// import scoresense.app.repository.RefereeRepository; // Descomenta si usas Referee
 
 @Service
 @Transactional
 public class MatchService {
 
+    // Orden del keyset: debe terminar en el ID para que el cursor sea único
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "matchDate", "matchId");
+
     private final MatchRepository matchRepository;
-    private final TeamRepository teamRepository;
-    // private final RefereeRepository refereeRepository; // Inyectar si se requiere
+    private final ReferenceDataService referenceDataService;
+    private final StandingsService standingsService;
 
-    public MatchService(MatchRepository matchRepository, TeamRepository teamRepository) {
+    public MatchService(MatchRepository matchRepository, ReferenceDataService referenceDataService,
+            StandingsService standingsService) {
         this.matchRepository = matchRepository;
-        this.teamRepository = teamRepository;
+        this.referenceDataService = referenceDataService;
+        this.standingsService = standingsService;
     }
 
     // --- CRUD BÁSICO (SOLO LECTURA Y CREACIÓN) ---
+    @Transactional(readOnly = true)
     public MatchResponse getById(Long id) {
         Match match = matchRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Match", "id", id));
         return MatchMapper.toResponse(match);
     }
 
+    // Carga varios partidos en una sola consulta IN (...) (usado por @BatchMapping de GraphQL)
+    @Transactional(readOnly = true)
+    public Map<Long, MatchResponse> getByIds(Collection<Long> ids) {
+        return matchRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Match::getMatchId, MatchMapper::toResponse));
+    }
+
     public MatchResponse create(MatchRequest req) {
         Match match = MatchMapper.toEntity(req);
+        // Con marcador completo es un resultado final; si no, queda programado
+        if (req.getHomeScore() != null && req.getAwayScore() != null) {
+            match.setStatus(Match.Status.FINISHED);
+        } else {
+            match.setHomeScore(null);
+            match.setAwayScore(null);
+            match.setStatus(Match.Status.SCHEDULED);
+        }
 
-        // Asociar Home Team
-        Team homeTeam = teamRepository.findById(req.getHomeTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getHomeTeamId()));
-        match.setHomeTeam(homeTeam);
-
-        // Asociar Away Team
-        Team awayTeam = teamRepository.findById(req.getAwayTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getAwayTeamId()));
-        match.setAwayTeam(awayTeam);
-
-        /* Lógica para Referee (opcional por ahora para que compile)
+        // Equipos y árbitro salen de la caché de datos de referencia
+        match.setHomeTeam(referenceDataService.getTeam(req.getHomeTeamId()));
+        match.setAwayTeam(referenceDataService.getTeam(req.getAwayTeamId()));
         if (req.getRefereeId() != null) {
-            Referee referee = refereeRepository.findById(req.getRefereeId())
-                .orElseThrow(() -> new ResourceNotFoundException("Referee", "id", req.getRefereeId()));
-            match.setReferee(referee);
+            match.setReferee(referenceDataService.getReferee(req.getRefereeId()));
         }
-         */
         Match saved = matchRepository.save(match);
+
+        // Actualizar la tabla de posiciones solo cuando el partido quede confirmado
+        AfterCommit.run(() -> standingsService.recordMatch(saved));
         return MatchMapper.toResponse(saved);
     }
 
     // --- CONSULTAS (Paginadas y Listas) ---
     // 1. Obtener todos paginados
+    @Transactional(readOnly = true)
     public Page<MatchResponse> getAllPaged(Pageable pageable) {
         return matchRepository.findAll(pageable)
                 .map(MatchMapper::toResponse);
     }
 
+    // Streaming (?stream=true): el Stream se consume dentro de la transacción de JsonArrayStreamer
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<MatchResponse> streamAll() {
+        return matchRepository.streamAllResponses();
+    }
+
+    // Paginación por cursor (keyset): sin count(*) y con costo constante por página
+    @Transactional(readOnly = true)
+    public CursorPage<MatchResponse> getAllByCursor(String cursor, int size) {
+        return KeysetCursor.toPage(
+                matchRepository.findBy(KeysetCursor.decode(cursor, CURSOR_SORT), CURSOR_SORT, KeysetCursor.limit(size)),
+                MatchMapper::toResponse);
+    }
+
     // 2. Obtener todos en casa por team id (Sin paginar)
+    @Transactional(readOnly = true)
     public List<MatchResponse> findByHomeTeam(Long teamId) {
         return matchRepository.findByHomeTeamTeamId(teamId)
                 .stream()
@@ -78,6 +112,7 @@ public class MatchService {
     }
 
     // 3. Obtener todos de visitante por team id (Sin paginar)
+    @Transactional(readOnly = true)
     public List<MatchResponse> findByAwayTeam(Long teamId) {
         return matchRepository.findByAwayTeamTeamId(teamId)
                 .stream()
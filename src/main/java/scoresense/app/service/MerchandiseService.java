@@ -32,6 +32,7 @@ public class MerchandiseService {
         return MerchandiseMapper.toResponse(saved);
     }
 
+    @Transactional(readOnly = true)
     public List<MerchandiseResponse> getAll() {
         return merchandiseRepository.findAll()
                 .stream()
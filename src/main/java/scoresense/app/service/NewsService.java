@@ -2,43 +2,55 @@ package scoresense.app.service;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.NewsRequest;
 import scoresense.app.dto.NewsResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.NewsMapper;
 import scoresense.app.model.News;
 import scoresense.app.model.Team;
+import scoresense.app.repository.KeysetCursor;
 import scoresense.app.repository.NewsRepository;
-import scoresense.app.repository.TeamRepository;
 
 @Service
 @Transactional
 public class NewsService {
 
+    // Orden del keyset: debe terminar en el ID para que el cursor sea único
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "publishDate", "newsId");
+
     private final NewsRepository newsRepository;
-    private final TeamRepository teamRepository;
+    private final ReferenceDataService referenceDataService;
 
-    public NewsService(NewsRepository newsRepository, TeamRepository teamRepository) {
+    public NewsService(NewsRepository newsRepository, ReferenceDataService referenceDataService) {
         this.newsRepository = newsRepository;
-        this.teamRepository = teamRepository;
+        this.referenceDataService = referenceDataService;
     }
 
     // --- CRUD BÁSICO ---
-    // Obtener todas las noticias sin paginación
+    // Obtener todas las noticias sin paginación (proyección directa al DTO, solo lectura)
+    @Transactional(readOnly = true)
     public List<NewsResponse> getAll() {
-        return newsRepository.findAll()
-                .stream()
-                .map(NewsMapper::toResponse)
-                .collect(Collectors.toList());
+        return newsRepository.findAllResponses();
+    }
+
+    // Streaming (?stream=true): el Stream se consume dentro de la transacción de JsonArrayStreamer
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<NewsResponse> streamAll() {
+        return newsRepository.streamAllResponses();
     }
 
     // Obtener por ID
+    @Transactional(readOnly = true)
     public NewsResponse getById(Long id) {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("News", "id", id));
@@ -50,8 +62,7 @@ public class NewsService {
         News news = NewsMapper.toEntity(req);
 
         // Asociar Team
-        Team team = teamRepository.findById(req.getTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getTeamId()));
+        Team team = referenceDataService.getTeam(req.getTeamId());
         news.setTeam(team);
 
         News saved = newsRepository.save(news);
@@ -67,8 +78,7 @@ public class NewsService {
 
         // Actualizar Team si cambió
         if (!req.getTeamId().equals(existingNews.getTeam().getTeamId())) {
-            Team newTeam = teamRepository.findById(req.getTeamId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getTeamId()));
+            Team newTeam = referenceDataService.getTeam(req.getTeamId());
             existingNews.setTeam(newTeam);
         }
 
@@ -86,12 +96,22 @@ public class NewsService {
 
     // --- CONSULTAS ESPECIALIZADAS ---
     // 1. Obtener todas paginado (Consulta especializada paginada)
+    @Transactional(readOnly = true)
     public Page<NewsResponse> getAllPaged(Pageable pageable) {
         return newsRepository.findAll(pageable)
                 .map(NewsMapper::toResponse);
     }
 
+    // Paginación por cursor (keyset): sin count(*) y con costo constante por página
+    @Transactional(readOnly = true)
+    public CursorPage<NewsResponse> getAllByCursor(String cursor, int size) {
+        return KeysetCursor.toPage(
+                newsRepository.findBy(KeysetCursor.decode(cursor, CURSOR_SORT), CURSOR_SORT, KeysetCursor.limit(size)),
+                NewsMapper::toResponse);
+    }
+
     // 2. Obtener noticias por ID de equipo (Sin paginación)
+    @Transactional(readOnly = true)
     public List<NewsResponse> findByTeamId(Long teamId) {
         return newsRepository.findByTeamTeamId(teamId)
                 .stream()
@@ -0,0 +1,256 @@
+package scoresense.app.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import org.apache.parquet.bytes.ByteBufferReleaser;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.bytes.DirectByteBufferAllocator;
+import org.apache.parquet.compression.CompressionCodecFactory;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.LocalOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types.MessageTypeBuilder;
+
+import com.github.luben.zstd.Zstd;
+
+// Escribe las filas de un ResultSet como Parquet: el esquema sale de los metadatos de la consulta
+// (todas las columnas opcionales) y las páginas se comprimen con ZSTD.
+// Todo corre sin Hadoop: archivo local, PlainParquetConfiguration y compresión con zstd-jni
+// (los códecs propios de parquet-hadoop cargan clases de Hadoop).
+final class ParquetExportWriter implements Closeable {
+
+    // Un row group se arma en memoria antes de escribirse: esto acota la memoria por exportación
+    private static final long ROW_GROUP_SIZE = 16L * 1024 * 1024;
+    private static final int ZSTD_LEVEL = 3;
+
+    private final ParquetWriter<ResultSet> writer;
+
+    ParquetExportWriter(Path file, ResultSetMetaData metaData) throws SQLException, IOException {
+        ResultSetWriteSupport writeSupport = new ResultSetWriteSupport(metaData);
+        this.writer = new Builder(new LocalOutputFile(file), writeSupport)
+                .withConf(new PlainParquetConfiguration())
+                .withCodecFactory(new ZstdCodecFactory())
+                .withCompressionCodec(CompressionCodecName.ZSTD)
+                .withRowGroupSize(ROW_GROUP_SIZE)
+                .build();
+    }
+
+    // Escribe la fila actual del ResultSet
+    void write(ResultSet row) throws IOException {
+        writer.write(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static final class ResultSetWriteSupport extends WriteSupport<ResultSet> {
+
+        private final MessageType schema;
+        private final int[] sqlTypes;
+        private RecordConsumer consumer;
+
+        ResultSetWriteSupport(ResultSetMetaData metaData) throws SQLException {
+            int columns = metaData.getColumnCount();
+            this.sqlTypes = new int[columns];
+            MessageTypeBuilder builder = org.apache.parquet.schema.Types.buildMessage();
+            for (int i = 0; i < columns; i++) {
+                sqlTypes[i] = metaData.getColumnType(i + 1);
+                String name = metaData.getColumnLabel(i + 1);
+                switch (sqlTypes[i]) {
+                    case Types.BIGINT -> builder.optional(PrimitiveTypeName.INT64).named(name);
+                    case Types.INTEGER, Types.SMALLINT, Types.TINYINT ->
+                        builder.optional(PrimitiveTypeName.INT32).named(name);
+                    case Types.DOUBLE, Types.FLOAT, Types.REAL, Types.NUMERIC, Types.DECIMAL ->
+                        builder.optional(PrimitiveTypeName.DOUBLE).named(name);
+                    case Types.BOOLEAN, Types.BIT -> builder.optional(PrimitiveTypeName.BOOLEAN).named(name);
+                    case Types.DATE -> builder.optional(PrimitiveTypeName.INT32)
+                            .as(LogicalTypeAnnotation.dateType()).named(name);
+                    case Types.TIMESTAMP -> builder.optional(PrimitiveTypeName.INT64)
+                            .as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MICROS))
+                            .named(name);
+                    default -> builder.optional(PrimitiveTypeName.BINARY)
+                            .as(LogicalTypeAnnotation.stringType()).named(name);
+                }
+            }
+            this.schema = builder.named("export");
+        }
+
+        @Override
+        public WriteContext init(ParquetConfiguration configuration) {
+            return new WriteContext(schema, Map.of());
+        }
+
+        // Abstracto en WriteSupport: hay que implementarlo aunque el writer solo use la variante de arriba
+        @SuppressWarnings("deprecation")
+        @Override
+        public WriteContext init(org.apache.hadoop.conf.Configuration configuration) {
+            return new WriteContext(schema, Map.of());
+        }
+
+        @Override
+        public void prepareForWrite(RecordConsumer recordConsumer) {
+            this.consumer = recordConsumer;
+        }
+
+        @Override
+        public void write(ResultSet row) {
+            consumer.startMessage();
+            try {
+                for (int i = 0; i < sqlTypes.length; i++) {
+                    writeField(row, i);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not read export row", e);
+            }
+            consumer.endMessage();
+        }
+
+        private void writeField(ResultSet row, int index) throws SQLException {
+            int column = index + 1;
+            String name = schema.getFieldName(index);
+            switch (sqlTypes[index]) {
+                case Types.BIGINT -> {
+                    long value = row.getLong(column);
+                    if (!row.wasNull()) {
+                        consumer.startField(name, index);
+                        consumer.addLong(value);
+                        consumer.endField(name, index);
+                    }
+                }
+                case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> {
+                    int value = row.getInt(column);
+                    if (!row.wasNull()) {
+                        consumer.startField(name, index);
+                        consumer.addInteger(value);
+                        consumer.endField(name, index);
+                    }
+                }
+                case Types.DOUBLE, Types.FLOAT, Types.REAL, Types.NUMERIC, Types.DECIMAL -> {
+                    double value = row.getDouble(column);
+                    if (!row.wasNull()) {
+                        consumer.startField(name, index);
+                        consumer.addDouble(value);
+                        consumer.endField(name, index);
+                    }
+                }
+                case Types.BOOLEAN, Types.BIT -> {
+                    boolean value = row.getBoolean(column);
+                    if (!row.wasNull()) {
+                        consumer.startField(name, index);
+                        consumer.addBoolean(value);
+                        consumer.endField(name, index);
+                    }
+                }
+                case Types.DATE -> {
+                    LocalDate value = row.getObject(column, LocalDate.class);
+                    if (value != null) {
+                        consumer.startField(name, index);
+                        consumer.addInteger((int) value.toEpochDay());
+                        consumer.endField(name, index);
+                    }
+                }
+                case Types.TIMESTAMP -> {
+                    LocalDateTime value = row.getObject(column, LocalDateTime.class);
+                    if (value != null) {
+                        consumer.startField(name, index);
+                        consumer.addLong(value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000);
+                        consumer.endField(name, index);
+                    }
+                }
+                default -> {
+                    String value = row.getString(column);
+                    if (value != null) {
+                        consumer.startField(name, index);
+                        consumer.addBinary(Binary.fromString(value));
+                        consumer.endField(name, index);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Builder extends ParquetWriter.Builder<ResultSet, Builder> {
+
+        private final ResultSetWriteSupport writeSupport;
+
+        Builder(OutputFile file, ResultSetWriteSupport writeSupport) {
+            super(file);
+            this.writeSupport = writeSupport;
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<ResultSet> getWriteSupport(ParquetConfiguration configuration) {
+            return writeSupport;
+        }
+
+        // Abstracto en ParquetWriter.Builder: con withConf(PlainParquetConfiguration) nunca se llama
+        @SuppressWarnings("deprecation")
+        @Override
+        protected WriteSupport<ResultSet> getWriteSupport(org.apache.hadoop.conf.Configuration configuration) {
+            return writeSupport;
+        }
+    }
+
+    // Solo compresión: las exportaciones no se leen desde la aplicación
+    private static final class ZstdCodecFactory implements CompressionCodecFactory {
+
+        private final BytesInputCompressor compressor = new BytesInputCompressor() {
+            // zstd-jni comprime ByteBuffers solo si son directos; el releaser libera la copia al terminar
+            @Override
+            public BytesInput compress(BytesInput bytes) throws IOException {
+                try (ByteBufferReleaser releaser = new ByteBufferReleaser(DirectByteBufferAllocator.getInstance())) {
+                    return BytesInput.from(Zstd.compress(bytes.toByteBuffer(releaser), ZSTD_LEVEL));
+                }
+            }
+
+            @Override
+            public CompressionCodecName getCodecName() {
+                return CompressionCodecName.ZSTD;
+            }
+
+            @Override
+            public void release() {
+            }
+        };
+
+        @Override
+        public BytesInputCompressor getCompressor(CompressionCodecName codecName) {
+            return compressor;
+        }
+
+        @Override
+        public BytesInputDecompressor getDecompressor(CompressionCodecName codecName) {
+            throw new UnsupportedOperationException("Export files are write-only");
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+}
@@ -1,53 +1,75 @@
 package scoresense.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.dto.CursorPage;
 import scoresense.app.dto.PlayerRequest;
 import scoresense.app.dto.PlayerResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.PlayerMapper;
 import scoresense.app.model.Player;
 import scoresense.app.model.Team;
+import scoresense.app.repository.KeysetCursor;
 import scoresense.app.repository.PlayerRepository;
-import scoresense.app.repository.TeamRepository;
 
 @Service
 @Transactional
 public class PlayerService {
 
+    // Orden del keyset: debe terminar en el ID para que el cursor sea único
+    private static final Sort CURSOR_SORT = Sort.by("playerId");
+
     private final PlayerRepository playerRepository;
-    private final TeamRepository teamRepository;
+    private final ReferenceDataService referenceDataService;
 
-    public PlayerService(PlayerRepository playerRepository, TeamRepository teamRepository) {
+    public PlayerService(PlayerRepository playerRepository, ReferenceDataService referenceDataService) {
         this.playerRepository = playerRepository;
-        this.teamRepository = teamRepository;
+        this.referenceDataService = referenceDataService;
     }
 
     // --- MÉTODOS CRUD BÁSICOS ---
+    // Solo lectura: proyección al DTO, sin snapshots de dirty-checking ni flush
+    @Transactional(readOnly = true)
     public List<PlayerResponse> getAll() {
-        return playerRepository.findAll()
-                .stream()
-                .map(PlayerMapper::toResponse)
-                .collect(Collectors.toList());
+        return playerRepository.findAllResponses();
+    }
+
+    // Streaming (?stream=true): el Stream se consume dentro de la transacción de JsonArrayStreamer
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<PlayerResponse> streamAll() {
+        return playerRepository.streamAllResponses();
     }
 
+    @Transactional(readOnly = true)
     public PlayerResponse getById(Long id) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
         return PlayerMapper.toResponse(player);
     }
 
+    // Carga varios jugadores en una sola consulta IN (...) (usado por @BatchMapping de GraphQL)
+    @Transactional(readOnly = true)
+    public Map<Long, PlayerResponse> getByIds(Collection<Long> ids) {
+        return playerRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Player::getPlayerId, PlayerMapper::toResponse));
+    }
+
     public PlayerResponse create(PlayerRequest req) {
         Player player = PlayerMapper.toEntity(req);
 
-        Team team = teamRepository.findById(req.getTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getTeamId()));
+        Team team = referenceDataService.getTeam(req.getTeamId());
         player.setTeam(team);
 
         Player saved = playerRepository.save(player);
@@ -60,8 +82,7 @@ public class PlayerService {
 
         PlayerMapper.copyToEntity(req, player);
 
-        Team team = teamRepository.findById(req.getTeamId())
-                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", req.getTeamId()));
+        Team team = referenceDataService.getTeam(req.getTeamId());
         player.setTeam(team);
 
         Player updated = playerRepository.save(player);
@@ -76,12 +97,22 @@ public class PlayerService {
     }
 
     // --- PAGINACIÓN GENERAL ---
+    @Transactional(readOnly = true)
     public Page<PlayerResponse> getAllPaged(Pageable pageable) {
         return playerRepository.findAll(pageable)
                 .map(PlayerMapper::toResponse);
     }
 
+    // Paginación por cursor (keyset): sin count(*) y con costo constante por página
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerResponse> getAllByCursor(String cursor, int size) {
+        return KeysetCursor.toPage(
+                playerRepository.findBy(KeysetCursor.decode(cursor, CURSOR_SORT), CURSOR_SORT, KeysetCursor.limit(size)),
+                PlayerMapper::toResponse);
+    }
+
     // --- CONSULTAS ESPECIALIZADAS (SIN PAGINACIÓN) ---
+    @Transactional(readOnly = true)
     public List<PlayerResponse> findByNationality(String nationality) {
         return playerRepository.findByNationality(nationality)
                 .stream()
@@ -89,6 +120,7 @@ public class PlayerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<PlayerResponse> findByPositionAndTeam(String position, Long teamId) {
         return playerRepository.findByPositionAndTeamTeamId(position, teamId)
                 .stream()
@@ -96,6 +128,7 @@ public class PlayerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<PlayerResponse> findByNationalityAndMaxAge(String nationality, Short maxAge) {
         return playerRepository.findByNationalityAndAgeLessThanEqual(nationality, maxAge)
                 .stream()
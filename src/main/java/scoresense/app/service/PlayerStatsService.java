@@ -1,13 +1,13 @@
 package scoresense.app.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.dto.PlayerSeasonStatsResponse;
 import scoresense.app.dto.PlayerStatsRequest;
 import scoresense.app.dto.PlayerStatsResponse;
 import scoresense.app.exception.ResourceNotFoundException;
@@ -35,14 +35,13 @@ public class PlayerStatsService {
         this.matchRepository = matchRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<PlayerStatsResponse> getAll() {
-        return playerStatsRepository.findAll()
-                .stream()
-                .map(PlayerStatsMapper::toResponse)
-                .collect(Collectors.toList());
+        return playerStatsRepository.findAllResponses();
     }
 
     // Obtener por ID
+    @Transactional(readOnly = true)
     public PlayerStatsResponse getById(Long id) {
         PlayerStats playerStats = playerStatsRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("PlayerStats", "id", id));
@@ -73,24 +72,40 @@ public class PlayerStatsService {
 
     // --- CONSULTAS ESPECIALIZADAS ---
     // 1. Obtener todos paginado (Consulta especializada paginada)
+    @Transactional(readOnly = true)
     public Page<PlayerStatsResponse> getAllPaged(Pageable pageable) {
         return playerStatsRepository.findAll(pageable)
                 .map(PlayerStatsMapper::toResponse);
     }
 
     // 2. Obtener todos los jugadores con al menos una tarjeta roja (sin paginar)
+    @Transactional(readOnly = true)
     public List<PlayerStatsResponse> findPlayersWithRedCard() {
-        return playerStatsRepository.findByRedCardsGreaterThan(0)
-                .stream()
-                .map(PlayerStatsMapper::toResponse)
-                .collect(Collectors.toList());
+        return playerStatsRepository.findByRedCardsGreaterThan(0);
     }
 
     // 3. Obtener todos los jugadores que anotaron mínimo X goles (sin paginar)
+    @Transactional(readOnly = true)
     public List<PlayerStatsResponse> findPlayersWithMinGoals(Integer minGoals) {
-        return playerStatsRepository.findByGoalsGreaterThanEqual(minGoals)
-                .stream()
-                .map(PlayerStatsMapper::toResponse)
-                .collect(Collectors.toList());
+        return playerStatsRepository.findByGoalsGreaterThanEqual(minGoals);
+    }
+
+    // 4. Totales de temporada por jugador (goles, asistencias, tarjetas, minutos y promedios por 90')
+    // La agregación se hace en PostgreSQL; season == null devuelve todas las temporadas
+    @Transactional(readOnly = true)
+    public List<PlayerSeasonStatsResponse> getSeasonTotals(String season, Pageable pageable) {
+        if (season == null || season.isBlank()) {
+            return playerStatsRepository.findSeasonTotals(pageable);
+        }
+        return playerStatsRepository.findSeasonTotalsBySeason(season, pageable);
+    }
+
+    // 5. Totales por temporada de un jugador
+    @Transactional(readOnly = true)
+    public List<PlayerSeasonStatsResponse> getSeasonTotalsByPlayer(Long playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new ResourceNotFoundException("Player", "id", playerId);
+        }
+        return playerStatsRepository.findSeasonTotalsByPlayer(playerId);
     }
 }
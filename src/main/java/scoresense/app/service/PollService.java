@@ -5,10 +5,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import scoresense.app.dto.PollRequest;
 import scoresense.app.dto.PollResponse;
+import scoresense.app.dto.PollResultResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.PollMapper;
 import scoresense.app.model.Poll;
@@ -19,12 +21,15 @@ import scoresense.app.repository.PollRepository;
 public class PollService {
 
     private final PollRepository pollRepository;
+    private final PollTallyService pollTallyService;
 
-    public PollService(PollRepository pollRepository) {
+    public PollService(PollRepository pollRepository, PollTallyService pollTallyService) {
         this.pollRepository = pollRepository;
+        this.pollTallyService = pollTallyService;
     }
 
     // Obtener una encuesta por ID
+    @Transactional(readOnly = true)
     public PollResponse getById(Long id) {
         Poll poll = pollRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll", "id", id));
@@ -59,9 +64,17 @@ public class PollService {
         Poll poll = pollRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll", "id", id));
         pollRepository.delete(poll);
+        AfterCommit.run(() -> pollTallyService.removePoll(id));
+    }
+
+    // Resultados en vivo, servidos desde memoria (sin transacción: PollTallyService abre la suya si consulta)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PollResultResponse getResults(Long id) {
+        return pollTallyService.getResults(id);
     }
 
     // Obtener todas las encuestas
+    @Transactional(readOnly = true)
     public List<PollResponse> getAll() {
         return pollRepository.findAll()
                 .stream()
@@ -70,6 +83,7 @@ public class PollService {
     }
 
     // Obtener solo encuestas activas (no vencidas)
+    @Transactional(readOnly = true)
     public List<PollResponse> getActivePolls() {
         return pollRepository.findAll()
                 .stream()
@@ -0,0 +1,109 @@
+package scoresense.app.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import scoresense.app.dto.PollOptionResult;
+import scoresense.app.dto.PollResultResponse;
+import scoresense.app.exception.ResourceNotFoundException;
+import scoresense.app.repository.PollRepository;
+import scoresense.app.repository.Poll_voteRepository;
+
+// Resultados de encuestas en vivo mantenidos en memoria.
+// Cada opción es un LongAdder, así muchos votos concurrentes sobre la misma encuesta
+// no compiten por un único contador y las lecturas nunca consultan poll_vote.
+@Service
+public class PollTallyService {
+
+    private static final Comparator<PollOptionResult> RESULT_ORDER = Comparator
+            .comparing(PollOptionResult::getVotes).reversed()
+            .thenComparing(PollOptionResult::getOption, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Poll_voteRepository poll_voteRepository;
+    private final PollRepository pollRepository;
+    // Carga y comprobación de existencia en el primario: una encuesta recién creada puede no estar en la réplica
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, PollTally> tallies = new ConcurrentHashMap<>();
+
+    public PollTallyService(Poll_voteRepository poll_voteRepository, PollRepository pollRepository,
+            PlatformTransactionManager transactionManager) {
+        this.poll_voteRepository = poll_voteRepository;
+        this.pollRepository = pollRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // --- CARGA INICIAL ---
+    @PostConstruct
+    public void rebuild() {
+        tallies.clear();
+        List<Poll_voteRepository.OptionCountView> rows = transactionTemplate.execute(
+                status -> poll_voteRepository.countVotesByPollAndOption());
+        for (Poll_voteRepository.OptionCountView row : rows) {
+            tallies.computeIfAbsent(row.getPollId(), id -> new PollTally())
+                    .add(row.getOption(), row.getVotes());
+        }
+    }
+
+    // --- ACTUALIZACIÓN INCREMENTAL ---
+    public void recordVote(Long pollId, String option) {
+        tallies.computeIfAbsent(pollId, id -> new PollTally()).add(option, 1);
+    }
+
+    public void removePoll(Long pollId) {
+        tallies.remove(pollId);
+    }
+
+    // --- CONSULTAS ---
+    public PollResultResponse getResults(Long pollId) {
+        PollTally tally = tallies.get(pollId);
+        if (tally == null) {
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> pollRepository.existsById(pollId)))) {
+                throw new ResourceNotFoundException("Poll", "id", pollId);
+            }
+            return PollResultResponse.builder().pollId(pollId).totalVotes(0L).options(List.of()).build();
+        }
+        return tally.toResponse(pollId);
+    }
+
+    private static final class PollTally {
+
+        // Las opciones son texto libre; null se guarda bajo una clave vacía
+        private final Map<String, LongAdder> options = new ConcurrentHashMap<>();
+
+        void add(String option, long votes) {
+            options.computeIfAbsent(option != null ? option : "", o -> new LongAdder()).add(votes);
+        }
+
+        PollResultResponse toResponse(Long pollId) {
+            // Se toma una sola lectura por opción para que total y porcentajes sean coherentes
+            List<PollOptionResult> results = new ArrayList<>(options.size());
+            long total = 0;
+            for (Map.Entry<String, LongAdder> entry : options.entrySet()) {
+                long votes = entry.getValue().sum();
+                total += votes;
+                results.add(PollOptionResult.builder().option(entry.getKey()).votes(votes).build());
+            }
+            for (PollOptionResult result : results) {
+                result.setPercentage(total == 0 ? 0.0 : Math.round(result.getVotes() * 10000.0 / total) / 100.0);
+            }
+            results.sort(RESULT_ORDER);
+            return PollResultResponse.builder()
+                    .pollId(pollId)
+                    .totalVotes(total)
+                    .options(results)
+                    .build();
+        }
+    }
+}
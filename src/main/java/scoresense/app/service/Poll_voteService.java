@@ -23,11 +23,14 @@ public class Poll_voteService {
     private final Poll_voteRepository poll_voteRepository;
     private final PollRepository pollRepository;
     private final UserRepository userRepository;
+    private final PollTallyService pollTallyService;
 
-    public Poll_voteService(Poll_voteRepository poll_voteRepository, PollRepository pollRepository, UserRepository userRepository) {
+    public Poll_voteService(Poll_voteRepository poll_voteRepository, PollRepository pollRepository, UserRepository userRepository,
+            PollTallyService pollTallyService) {
         this.poll_voteRepository = poll_voteRepository;
         this.pollRepository = pollRepository;
         this.userRepository = userRepository;
+        this.pollTallyService = pollTallyService;
     }
 
 
@@ -44,10 +47,12 @@ public class Poll_voteService {
         vote.setOptionSelected(req.getOptionSelected());
 
         Poll_vote saved = poll_voteRepository.save(vote);
+        AfterCommit.run(() -> pollTallyService.recordVote(poll.getPollId(), saved.getOptionSelected()));
         return Poll_voteMapper.toResponse(saved);
     }
 
 
+    @Transactional(readOnly = true)
     public List<Poll_voteResponse> getVotesByPoll(Long pollId) {
         return poll_voteRepository.findByPoll_PollId(pollId)
                 .stream()
@@ -56,6 +61,7 @@ public class Poll_voteService {
     }
 
 
+    @Transactional(readOnly = true)
     public List<Poll_voteResponse> getVotesByUser(Long userId) {
         return poll_voteRepository.findByUser_UserId(userId)
                 .stream()
@@ -0,0 +1,60 @@
+package scoresense.app.service;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import scoresense.app.config.CacheConfig;
+import scoresense.app.exception.ResourceNotFoundException;
+import scoresense.app.model.League;
+import scoresense.app.model.Referee;
+import scoresense.app.model.RoleEntity;
+import scoresense.app.model.Team;
+import scoresense.app.repository.LeagueRepository;
+import scoresense.app.repository.RefereeRepository;
+import scoresense.app.repository.RoleRepository;
+import scoresense.app.repository.TeamRepository;
+
+// Búsquedas cacheadas de datos casi inmutables, usadas por las rutas de escritura de otros servicios.
+// Las entidades devueltas están desacopladas de la sesión: sirven para asignar relaciones y leer
+// sus campos, pero no deben modificarse (para eso están TeamService, LeagueService, etc.).
+// La invalidación se hace con @CacheEvict en los update/delete de cada servicio dueño.
+@Service
+public class ReferenceDataService {
+
+    private final LeagueRepository leagueRepository;
+    private final TeamRepository teamRepository;
+    private final RefereeRepository refereeRepository;
+    private final RoleRepository roleRepository;
+
+    public ReferenceDataService(LeagueRepository leagueRepository, TeamRepository teamRepository,
+            RefereeRepository refereeRepository, RoleRepository roleRepository) {
+        this.leagueRepository = leagueRepository;
+        this.teamRepository = teamRepository;
+        this.refereeRepository = refereeRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.LEAGUES, key = "#id")
+    public League getLeague(Long id) {
+        return leagueRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("League", "id", id));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.TEAMS, key = "#id")
+    public Team getTeam(Long id) {
+        return teamRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.REFEREES, key = "#id")
+    public Referee getReferee(Long id) {
+        return refereeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Referee", "id", id));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ROLES, key = "#id")
+    public RoleEntity getRole(Long id) {
+        return roleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Role", "id", id));
+    }
+}
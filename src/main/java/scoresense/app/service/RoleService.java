@@ -3,10 +3,13 @@ package scoresense.app.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import scoresense.app.config.CacheConfig;
 import scoresense.app.dto.RoleRequest;
 import scoresense.app.dto.RoleResponse;
 import scoresense.app.exception.ResourceNotFoundException;
@@ -20,6 +23,7 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
 
+    @Transactional(readOnly = true)
     public List<RoleResponse> getAllRoles() {
         return roleRepository.findAll()
                 .stream()
@@ -27,6 +31,7 @@ public class RoleService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public RoleResponse getRoleById(Long id) {
         RoleEntity role = roleRepository.findById(id)
                 // Throws an exception if the resource is not found.
@@ -43,6 +48,10 @@ public class RoleService {
         return mapToResponse(savedRole);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ROLES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true) // los usuarios cacheados incluyen su rol
+    })
     public void deleteRole(Long id) {
         if (!roleRepository.existsById(id)) {
             throw new ResourceNotFoundException("Role", "id", id);
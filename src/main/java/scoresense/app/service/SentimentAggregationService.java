@@ -0,0 +1,308 @@
+package scoresense.app.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PostConstruct;
+import scoresense.app.dto.SentimentSourceSummary;
+import scoresense.app.dto.SentimentSummaryResponse;
+import scoresense.app.exception.ResourceNotFoundException;
+import scoresense.app.model.Sentiment;
+import scoresense.app.repository.SentimentRepository;
+import scoresense.app.repository.TeamRepository;
+
+// Conteo de sentimientos (positive / neutral / negative) por equipo y fuente en ventanas móviles.
+// Cada par (equipo, fuente) tiene dos anillos de tamaño fijo: 60 minutos y 24 horas.
+// Se reconstruye al arrancar con las últimas 24 h (sin leer comment) y luego se actualiza
+// con cada sentimiento guardado, así el resumen nunca consulta la tabla sentiments.
+// La fuente es texto libre: cada equipo guarda a lo sumo MAX_SOURCES fuentes (las demás cuentan como
+// "other") y las que ya no tienen conteos dentro de las 24 h se descartan periódicamente.
+@Service
+public class SentimentAggregationService {
+
+    public static final Duration MAX_WINDOW = Duration.ofHours(24);
+
+    private static final int POSITIVE = 0;
+    private static final int NEUTRAL = 1;
+    private static final int NEGATIVE = 2;
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final int MAX_SOURCES = 32;
+    private static final String OTHER_SOURCE = "other";
+
+    private final SentimentRepository sentimentRepository;
+    private final TeamRepository teamRepository;
+    private final Clock clock;
+    // Lecturas en el primario: la réplica puede no tener aún los sentimientos o equipos recientes
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Map<String, SourceCounts>> teams = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SentimentAggregationService(SentimentRepository sentimentRepository, TeamRepository teamRepository,
+            PlatformTransactionManager transactionManager) {
+        this(sentimentRepository, teamRepository, transactionManager, Clock.systemDefaultZone());
+    }
+
+    public SentimentAggregationService(SentimentRepository sentimentRepository, TeamRepository teamRepository,
+            PlatformTransactionManager transactionManager, Clock clock) {
+        this.sentimentRepository = sentimentRepository;
+        this.teamRepository = teamRepository;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // --- CARGA INICIAL ---
+    @PostConstruct
+    public void rebuild() {
+        teams.clear();
+        LocalDateTime since = LocalDateTime.now(clock).minus(MAX_WINDOW);
+        List<SentimentRepository.SentimentEventView> events = transactionTemplate.execute(
+                status -> sentimentRepository.findEventsSince(since));
+        for (SentimentRepository.SentimentEventView e : events) {
+            record(e.getTeamId(), e.getSource(), e.getSentiment(), e.getCreatedAt());
+        }
+    }
+
+    // --- ACTUALIZACIÓN INCREMENTAL ---
+    public void record(Sentiment sentiment) {
+        if (sentiment.getTeam() == null) {
+            return;
+        }
+        record(sentiment.getTeam().getTeamId(), sentiment.getSource(), sentiment.getSentiment(),
+                sentiment.getCreatedAt());
+    }
+
+    public void record(Long teamId, String source, String sentiment, LocalDateTime createdAt) {
+        int kind = kind(sentiment);
+        if (teamId == null || kind < 0) {
+            return;
+        }
+        long millis = createdAt != null ? toMillis(createdAt) : clock.millis();
+        long now = clock.millis();
+        Map<String, SourceCounts> sources = teams.computeIfAbsent(teamId, id -> new ConcurrentHashMap<>());
+        String key = normalizeSource(source);
+        if (!sources.containsKey(key) && sources.size() >= MAX_SOURCES) {
+            key = OTHER_SOURCE;
+        }
+        // Dentro de compute: prune() no puede descartar la entrada entre que se obtiene y se suma
+        sources.compute(key, (s, counts) -> {
+            SourceCounts target = counts != null ? counts : new SourceCounts();
+            target.add(kind, millis, now);
+            return target;
+        });
+    }
+
+    // Descarta las fuentes sin conteos dentro de la ventana máxima
+    @Scheduled(fixedRateString = "${scoresense.sentiment.prune-rate-ms:600000}")
+    public void prune() {
+        long now = clock.millis();
+        teams.values().forEach(sources -> sources.keySet().forEach(source ->
+                sources.computeIfPresent(source, (s, counts) -> counts.isExpired(now) ? null : counts)));
+    }
+
+    public int sourceCount() {
+        return teams.values().stream().mapToInt(Map::size).sum();
+    }
+
+    // --- CONSULTAS ---
+    // Ventanas de hasta 60 min se resuelven por minuto; las mayores, por hora completa
+    public SentimentSummaryResponse getSummary(Long teamId, Duration window) {
+        if (window.isNegative() || window.isZero() || window.compareTo(MAX_WINDOW) > 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Window must be between 1m and 24h");
+        }
+        Map<String, SourceCounts> sources = teams.get(teamId);
+        if (sources == null
+                && !Boolean.TRUE.equals(transactionTemplate.execute(status -> teamRepository.existsById(teamId)))) {
+            throw new ResourceNotFoundException("Team", "id", teamId);
+        }
+
+        long now = clock.millis();
+        long[] totals = new long[3];
+        List<SentimentSourceSummary> bySource = new ArrayList<>();
+        if (sources != null) {
+            sources.forEach((source, counts) -> {
+                long[] c = counts.sum(window, now);
+                if (c[POSITIVE] + c[NEUTRAL] + c[NEGATIVE] == 0) {
+                    return;
+                }
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += c[i];
+                }
+                bySource.add(SentimentSourceSummary.builder()
+                        .source(source)
+                        .positive(c[POSITIVE])
+                        .neutral(c[NEUTRAL])
+                        .negative(c[NEGATIVE])
+                        .total(c[POSITIVE] + c[NEUTRAL] + c[NEGATIVE])
+                        .build());
+            });
+        }
+        bySource.sort(Comparator.comparing(SentimentSourceSummary::getTotal).reversed());
+
+        long total = totals[POSITIVE] + totals[NEUTRAL] + totals[NEGATIVE];
+        return SentimentSummaryResponse.builder()
+                .teamId(teamId)
+                .window(format(window))
+                .positive(totals[POSITIVE])
+                .neutral(totals[NEUTRAL])
+                .negative(totals[NEGATIVE])
+                .total(total)
+                .positiveRatio(ratio(totals[POSITIVE], total))
+                .negativeRatio(ratio(totals[NEGATIVE], total))
+                .netScore(ratio(totals[POSITIVE] - totals[NEGATIVE], total))
+                .sources(bySource)
+                .build();
+    }
+
+    // Acepta "15m", "1h", "24h"...
+    public static Duration parseWindow(String window) {
+        String value = window.trim().toLowerCase(Locale.ROOT);
+        try {
+            long amount = Long.parseLong(value.substring(0, value.length() - 1));
+            return switch (value.charAt(value.length() - 1)) {
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("unknown unit");
+            };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | ArithmeticException e) {
+            // NumberFormatException es IllegalArgumentException; Duration.ofHours desborda con valores enormes
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Invalid window '" + window + "', use minutes (m) or hours (h), e.g. 15m or 24h");
+        }
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+
+    private static int kind(String sentiment) {
+        if (sentiment == null) {
+            return -1;
+        }
+        return switch (sentiment.trim().toLowerCase(Locale.ROOT)) {
+            case "positive" -> POSITIVE;
+            case "neutral" -> NEUTRAL;
+            case "negative" -> NEGATIVE;
+            default -> -1;
+        };
+    }
+
+    private static String normalizeSource(String source) {
+        return source == null || source.isBlank() ? "unknown" : source.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static double ratio(long value, long total) {
+        return total == 0 ? 0.0 : Math.round(value * 10000.0 / total) / 10000.0;
+    }
+
+    private static String format(Duration window) {
+        long minutes = window.toMinutes();
+        return minutes % 60 == 0 ? (minutes / 60) + "h" : minutes + "m";
+    }
+
+    // Conteos de una fuente: un anillo por minuto (última hora) y otro por hora (últimas 24 h)
+    private static final class SourceCounts {
+
+        private final Ring minutes = new Ring(MINUTE, 60);
+        private final Ring hours = new Ring(HOUR, 24);
+
+        void add(int kind, long millis, long now) {
+            minutes.add(kind, millis, now);
+            hours.add(kind, millis, now);
+        }
+
+        long[] sum(Duration window, long now) {
+            long windowMinutes = window.toMinutes();
+            if (windowMinutes <= 60) {
+                return minutes.sum(windowMinutes, now);
+            }
+            return hours.sum((windowMinutes + 59) / 60, now);
+        }
+
+        // El anillo por hora cubre toda la ventana máxima (y contiene al de minutos)
+        boolean isExpired(long now) {
+            return hours.isEmpty(now);
+        }
+    }
+
+    // Cada slot guarda su época (minuto u hora absoluta) y 3 contadores; se reinicia al reutilizarse.
+    // La contención es solo por par (equipo, fuente), por eso basta con synchronized.
+    private static final class Ring {
+
+        private final long unitMillis;
+        private final long[] epochs;
+        private final long[] counts;
+
+        Ring(long unitMillis, int size) {
+            this.unitMillis = unitMillis;
+            this.epochs = new long[size];
+            this.counts = new long[size * 3];
+            Arrays.fill(epochs, -1);
+        }
+
+        void add(int kind, long millis, long now) {
+            long epoch = millis / unitMillis;
+            long current = now / unitMillis;
+            // Fuera del anillo (demasiado viejo): no aporta a ninguna ventana
+            if (epoch <= current - epochs.length) {
+                return;
+            }
+            int slot = (int) Math.floorMod(epoch, (long) epochs.length);
+            synchronized (this) {
+                if (epochs[slot] > epoch) {
+                    return;
+                }
+                if (epochs[slot] != epoch) {
+                    epochs[slot] = epoch;
+                    Arrays.fill(counts, slot * 3, slot * 3 + 3, 0);
+                }
+                counts[slot * 3 + kind]++;
+            }
+        }
+
+        synchronized boolean isEmpty(long now) {
+            long current = now / unitMillis;
+            for (long epoch : epochs) {
+                if (epoch > current - epochs.length) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized long[] sum(long units, long now) {
+            long current = now / unitMillis;
+            long[] result = new long[3];
+            for (long e = current - Math.min(units, epochs.length) + 1; e <= current; e++) {
+                int slot = (int) Math.floorMod(e, (long) epochs.length);
+                if (epochs[slot] != e) {
+                    continue;
+                }
+                for (int k = 0; k < 3; k++) {
+                    result[k] += counts[slot * 3 + k];
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package scoresense.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import scoresense.app.dto.SentimentBulkResult;
+import scoresense.app.dto.SentimentRequest;
+import scoresense.app.repository.TeamRepository;
+
+// Carga masiva de sentimientos desde un cuerpo NDJSON o un arreglo JSON.
+// El cuerpo se lee registro a registro con el parser de streaming de Jackson y se escribe
+// en lotes JDBC (una transacción por lote), así la memoria no depende del tamaño del cuerpo.
+@Service
+public class SentimentBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(SentimentBulkService.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO sentiments (source, sentiment, comment, created_at, team_id) VALUES (?, ?, ?, ?, ?)";
+    private static final int MAX_ERRORS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamRepository teamRepository;
+    private final SentimentAggregationService sentimentAggregationService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader reader;
+    private final int batchSize;
+
+    // Solo IDs de equipos que existen; los desconocidos se vuelven a consultar
+    private final Set<Long> knownTeams = ConcurrentHashMap.newKeySet();
+
+    public SentimentBulkService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            TeamRepository teamRepository, SentimentAggregationService sentimentAggregationService,
+            Validator validator, ObjectMapper objectMapper,
+            @Value("${scoresense.sentiments.bulk.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.teamRepository = teamRepository;
+        this.sentimentAggregationService = sentimentAggregationService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.reader = objectMapper.readerFor(SentimentRequest.class);
+        this.batchSize = batchSize;
+    }
+
+    public SentimentBulkResult ingest(InputStream body) throws IOException {
+        Progress progress = new Progress();
+        List<Row> batch = new ArrayList<>(batchSize);
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            JsonToken first = parser.nextToken();
+            // Arreglo JSON: se recorren sus elementos; NDJSON: valores raíz separados por salto de línea
+            boolean array = first == JsonToken.START_ARRAY;
+            JsonToken token = array ? parser.nextToken() : first;
+            while (token != null && token != JsonToken.END_ARRAY) {
+                progress.received++;
+                // Primero el árbol: solo falla con JSON mal formado. Un registro bien formado con tipos
+                // incorrectos se rechaza solo, sin cortar la carga.
+                JsonNode node = objectMapper.readTree(parser);
+                SentimentRequest req = null;
+                String error;
+                try {
+                    req = reader.readValue(node);
+                    error = validate(req);
+                } catch (JsonMappingException e) {
+                    error = "invalid record (" + e.getOriginalMessage() + ")";
+                }
+                if (error == null) {
+                    batch.add(new Row(progress.received, req));
+                    if (batch.size() == batchSize) {
+                        write(batch, progress);
+                        batch.clear();
+                    }
+                } else {
+                    progress.reject("record " + progress.received + ": " + error);
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            progress.completed = false;
+            progress.reject("record " + progress.received + ": malformed JSON, stopped ("
+                    + e.getOriginalMessage() + ")");
+        }
+        if (!batch.isEmpty()) {
+            write(batch, progress);
+        }
+        return progress.toResult();
+    }
+
+    private String validate(SentimentRequest req) {
+        Set<ConstraintViolation<SentimentRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SentimentRequest> v = violations.iterator().next();
+            return v.getPropertyPath() + " " + v.getMessage();
+        }
+        Long teamId = req.getTeamId();
+        if (!knownTeams.contains(teamId)) {
+            // En una transacción de lectura-escritura: con réplica, un equipo recién creado ya está en el primario
+            if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> teamRepository.existsById(teamId)))) {
+                return "Team not found with id : '" + teamId + "'";
+            }
+            knownTeams.add(teamId);
+        }
+        return null;
+    }
+
+    private void write(List<Row> batch, Progress progress) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Row row : batch) {
+            if (row.req().getCreatedAt() == null) {
+                row.req().setCreatedAt(now);
+            }
+        }
+        try {
+            insert(batch);
+        } catch (DataAccessException e) {
+            // Una fila rechazada por la base (CHECK, equipo borrado) no debe tirar el lote: se reintenta de a una
+            log.warn("Sentiment batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            List<Row> inserted = new ArrayList<>(batch.size());
+            for (Row row : batch) {
+                try {
+                    insert(List.of(row));
+                    inserted.add(row);
+                } catch (DataAccessException single) {
+                    knownTeams.remove(row.req().getTeamId());
+                    progress.reject("record " + row.record() + ": rejected by the database ("
+                            + single.getMostSpecificCause().getMessage() + ")");
+                }
+            }
+            batch = inserted;
+        }
+        for (Row row : batch) {
+            SentimentRequest req = row.req();
+            sentimentAggregationService.record(req.getTeamId(), req.getSource(), req.getSentiment(), req.getCreatedAt());
+        }
+        progress.inserted += batch.size();
+        progress.batches++;
+    }
+
+    private void insert(List<Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(),
+                (ps, row) -> {
+                    SentimentRequest req = row.req();
+                    ps.setString(1, req.getSource());
+                    ps.setString(2, req.getSentiment());
+                    ps.setString(3, req.getComment());
+                    ps.setTimestamp(4, Timestamp.valueOf(req.getCreatedAt()));
+                    ps.setLong(5, req.getTeamId());
+                }));
+    }
+
+    // Registro validado con su número de orden en el cuerpo (para informar errores)
+    private record Row(long record, SentimentRequest req) {
+    }
+
+    private static final class Progress {
+
+        private long received;
+        private long inserted;
+        private long rejected;
+        private long batches;
+        private boolean completed = true;
+        private final List<String> errors = new ArrayList<>();
+
+        void reject(String error) {
+            rejected++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        SentimentBulkResult toResult() {
+            return SentimentBulkResult.builder()
+                    .received(received)
+                    .inserted(inserted)
+                    .rejected(rejected)
+                    .batches(batches)
+                    .completed(completed)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package scoresense.app.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import scoresense.app.dto.StandingResponse;
+import scoresense.app.exception.ResourceNotFoundException;
+import scoresense.app.model.Match;
+import scoresense.app.model.Team;
+import scoresense.app.repository.LeagueRepository;
+import scoresense.app.repository.MatchRepository;
+
+// Tabla de posiciones por liga mantenida en memoria.
+// Se reconstruye una sola vez al arrancar y luego se actualiza con cada partido creado,
+// de modo que las lecturas nunca recorren la tabla matches.
+@Service
+public class StandingsService {
+
+    private static final int FORM_LENGTH = 5;
+
+    private static final Comparator<TeamRecord> TABLE_ORDER = Comparator
+            .comparingInt(TeamRecord::points).reversed()
+            .thenComparing(Comparator.comparingInt(TeamRecord::goalDifference).reversed())
+            .thenComparing(Comparator.comparingInt((TeamRecord r) -> r.goalsFor).reversed())
+            .thenComparing(r -> r.teamName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final MatchRepository matchRepository;
+    private final LeagueRepository leagueRepository;
+    // Transacción propia de lectura-escritura (primario): rebuild() también corre tras el commit de una
+    // importación, cuando la réplica todavía puede no tener los partidos nuevos
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LeagueTable> tables = new ConcurrentHashMap<>();
+
+    public StandingsService(MatchRepository matchRepository, LeagueRepository leagueRepository,
+            PlatformTransactionManager transactionManager) {
+        this.matchRepository = matchRepository;
+        this.leagueRepository = leagueRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // --- CARGA INICIAL ---
+    @PostConstruct
+    public void rebuild() {
+        List<MatchRepository.MatchResultView> results = transactionTemplate.execute(
+                status -> matchRepository.findPlayedLeagueResults());
+        tables.clear();
+        for (MatchRepository.MatchResultView r : results) {
+            apply(r.getLeagueId(), r.getHomeTeamId(), r.getHomeTeamName(), r.getAwayTeamId(),
+                    r.getAwayTeamName(), r.getHomeScore(), r.getAwayScore());
+        }
+    }
+
+    // --- ACTUALIZACIÓN INCREMENTAL ---
+    // Registra el resultado de un partido ya guardado. Se ignoran partidos sin marcador
+    // o entre equipos de ligas distintas (copas, amistosos).
+    public void recordMatch(Match match) {
+        Team home = match.getHomeTeam();
+        Team away = match.getAwayTeam();
+        if (home == null || away == null || home.getLeague() == null || away.getLeague() == null) {
+            return;
+        }
+        Long leagueId = home.getLeague().getLeagueId();
+        if (!leagueId.equals(away.getLeague().getLeagueId())) {
+            return;
+        }
+        apply(leagueId, home.getTeamId(), home.getName(), away.getTeamId(), away.getName(),
+                match.getHomeScore(), match.getAwayScore());
+    }
+
+    // --- CONSULTAS ---
+    public List<StandingResponse> getStandings(Long leagueId) {
+        LeagueTable table = tables.get(leagueId);
+        if (table != null) {
+            return table.snapshot;
+        }
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> leagueRepository.existsById(leagueId)))) {
+            throw new ResourceNotFoundException("League", "id", leagueId);
+        }
+        return List.of();
+    }
+
+    private void apply(Long leagueId, Long homeId, String homeName, Long awayId, String awayName,
+            Integer homeScore, Integer awayScore) {
+        if (leagueId == null || homeScore == null || awayScore == null) {
+            return;
+        }
+        tables.computeIfAbsent(leagueId, id -> new LeagueTable())
+                .record(homeId, homeName, awayId, awayName, homeScore, awayScore);
+    }
+
+    // Tabla de una liga: las escrituras se serializan y publican una instantánea ya ordenada,
+    // así las lecturas solo devuelven la lista inmutable actual.
+    private static final class LeagueTable {
+
+        private final Map<Long, TeamRecord> teams = new HashMap<>();
+        private volatile List<StandingResponse> snapshot = List.of();
+
+        synchronized void record(Long homeId, String homeName, Long awayId, String awayName,
+                int homeScore, int awayScore) {
+            teams.computeIfAbsent(homeId, id -> new TeamRecord(id)).add(homeName, homeScore, awayScore);
+            teams.computeIfAbsent(awayId, id -> new TeamRecord(id)).add(awayName, awayScore, homeScore);
+            snapshot = rank();
+        }
+
+        private List<StandingResponse> rank() {
+            List<TeamRecord> ordered = new ArrayList<>(teams.values());
+            ordered.sort(TABLE_ORDER);
+            List<StandingResponse> rows = new ArrayList<>(ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                rows.add(ordered.get(i).toResponse(i + 1));
+            }
+            return List.copyOf(rows);
+        }
+    }
+
+    private static final class TeamRecord {
+
+        private final Long teamId;
+        private String teamName;
+        private int won;
+        private int drawn;
+        private int lost;
+        private int goalsFor;
+        private int goalsAgainst;
+        private final Deque<Character> form = new ArrayDeque<>(FORM_LENGTH);
+
+        TeamRecord(Long teamId) {
+            this.teamId = teamId;
+        }
+
+        void add(String name, int scored, int conceded) {
+            if (name != null) {
+                teamName = name;
+            }
+            goalsFor += scored;
+            goalsAgainst += conceded;
+            char result;
+            if (scored > conceded) {
+                won++;
+                result = 'W';
+            } else if (scored == conceded) {
+                drawn++;
+                result = 'D';
+            } else {
+                lost++;
+                result = 'L';
+            }
+            if (form.size() == FORM_LENGTH) {
+                form.removeFirst();
+            }
+            form.addLast(result);
+        }
+
+        int points() {
+            return won * 3 + drawn;
+        }
+
+        int goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+
+        StandingResponse toResponse(int position) {
+            StringBuilder lastResults = new StringBuilder(FORM_LENGTH);
+            form.forEach(lastResults::append);
+            return StandingResponse.builder()
+                    .position(position)
+                    .teamId(teamId)
+                    .teamName(teamName)
+                    .played(won + drawn + lost)
+                    .won(won)
+                    .drawn(drawn)
+                    .lost(lost)
+                    .goalsFor(goalsFor)
+                    .goalsAgainst(goalsAgainst)
+                    .goalDifference(goalDifference())
+                    .points(points())
+                    .form(lastResults.toString())
+                    .build();
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package scoresense.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import scoresense.app.config.CacheConfig;
 import scoresense.app.dto.TeamRequest;
 import scoresense.app.dto.TeamResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.TeamMapper;
 import scoresense.app.model.League;
 import scoresense.app.model.Team;
-import scoresense.app.repository.LeagueRepository;
 import scoresense.app.repository.TeamRepository;
 
 @Service
@@ -20,13 +23,14 @@ import scoresense.app.repository.TeamRepository;
 public class TeamService {
 
     private final TeamRepository teamRepository;
-    private final LeagueRepository leagueRepository;
+    private final ReferenceDataService referenceDataService;
 
-    public TeamService(TeamRepository teamRepository, LeagueRepository leagueRepository) {
+    public TeamService(TeamRepository teamRepository, ReferenceDataService referenceDataService) {
         this.teamRepository = teamRepository;
-        this.leagueRepository = leagueRepository;
+        this.referenceDataService = referenceDataService;
     }
 
+    @Transactional(readOnly = true)
     public List<TeamResponse> getAll() {
         return teamRepository.findAll()
                 .stream()
@@ -34,37 +38,46 @@ public class TeamService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public TeamResponse getById(Long id) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
         return toResponse(team);
     }
 
+    // Carga varios equipos en una sola consulta IN (...) (usado por @BatchMapping de GraphQL)
+    @Transactional(readOnly = true)
+    public Map<Long, TeamResponse> getByIds(Collection<Long> ids) {
+        return teamRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Team::getTeamId, this::toResponse));
+    }
+
     public TeamResponse create(TeamRequest req) {
         Team team = TeamMapper.toEntity(req);
 
-        League league = leagueRepository.findById(req.getLeagueId())
-                .orElseThrow(() -> new ResourceNotFoundException("League", "id", req.getLeagueId()));
+        League league = referenceDataService.getLeague(req.getLeagueId());
         team.setLeague(league);
 
         Team saved = teamRepository.save(team);
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#id")
     public TeamResponse update(Long id, TeamRequest req) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
 
         TeamMapper.copyToEntity(req, team);
 
-        League league = leagueRepository.findById(req.getLeagueId())
-                .orElseThrow(() -> new ResourceNotFoundException("League", "id", req.getLeagueId()));
+        League league = referenceDataService.getLeague(req.getLeagueId());
         team.setLeague(league);
 
         Team updated = teamRepository.save(team);
         return toResponse(updated);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TEAMS, key = "#id")
     public void delete(Long id) {
         Team team = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team", "id", id));
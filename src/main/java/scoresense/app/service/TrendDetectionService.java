@@ -0,0 +1,315 @@
+package scoresense.app.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import scoresense.app.dto.TrendingScoreResponse;
+import scoresense.app.model.TrendingTopic;
+import scoresense.app.repository.TrendingTopicRepository;
+
+// Detección de tendencias sobre ventanas deslizantes (5 min, 1 h, 24 h).
+// Las menciones se cuentan en count-min sketches por minuto y por hora (memoria fija),
+// y solo un conjunto acotado de candidatos se evalúa al rankear. La velocidad es la
+// diferencia de menciones contra la ventana anterior del mismo largo, por minuto.
+// A trending_topics solo llegan las instantáneas periódicas del ranking.
+@Service
+public class TrendDetectionService {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+    private static final int MAX_SOCIAL_MEDIA = 32;
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    public enum TrendWindow {
+        FIVE_MINUTES("5m", 5, false),
+        ONE_HOUR("1h", 60, false),
+        ONE_DAY("24h", 24, true);
+
+        private final String label;
+        private final int buckets;
+        private final boolean hourly;
+
+        TrendWindow(String label, int buckets, boolean hourly) {
+            this.label = label;
+            this.buckets = buckets;
+            this.hourly = hourly;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        long minutes() {
+            return hourly ? buckets * 60L : buckets;
+        }
+
+        public static TrendWindow fromLabel(String label) {
+            for (TrendWindow window : values()) {
+                if (window.label.equalsIgnoreCase(label)) {
+                    return window;
+                }
+            }
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unknown window '" + label + "', expected 5m, 1h or 24h");
+        }
+    }
+
+    private final TrendingTopicRepository trendingTopicRepository;
+    private final Clock clock;
+    private final int maxCandidates;
+    private final int snapshotSize;
+
+    // Ventana actual + anterior: 120 minutos y 48 horas
+    private final TimeBuckets minutes = new TimeBuckets(MINUTE, 120);
+    private final TimeBuckets hours = new TimeBuckets(HOUR, 48);
+
+    // clave normalizada -> texto original; acotado a maxCandidates
+    private final Map<String, Candidate> candidates = new ConcurrentHashMap<>();
+    private final Set<String> socialMedia = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TrendDetectionService(TrendingTopicRepository trendingTopicRepository,
+            @Value("${scoresense.trending.max-candidates:1000}") int maxCandidates,
+            @Value("${scoresense.trending.snapshot-size:10}") int snapshotSize) {
+        this(trendingTopicRepository, Clock.systemUTC(), maxCandidates, snapshotSize);
+    }
+
+    public TrendDetectionService(TrendingTopicRepository trendingTopicRepository, Clock clock,
+            int maxCandidates, int snapshotSize) {
+        this.trendingTopicRepository = trendingTopicRepository;
+        this.clock = clock;
+        this.maxCandidates = maxCandidates;
+        this.snapshotSize = snapshotSize;
+    }
+
+    // --- INGESTA ---
+    public void recordMention(String topic, String network) {
+        if (topic == null || topic.isBlank()) {
+            return;
+        }
+        long now = clock.millis();
+        String key = normalize(topic);
+        increment(key, now);
+        if (network != null && !network.isBlank()) {
+            String sm = normalize(network);
+            if (socialMedia.contains(sm) || (socialMedia.size() < MAX_SOCIAL_MEDIA && socialMedia.add(sm))) {
+                increment(networkKey(sm, key), now);
+            }
+        }
+
+        Candidate candidate = candidates.get(key);
+        if (candidate == null) {
+            candidate = candidates.computeIfAbsent(key, k -> new Candidate(topic.trim()));
+            if (candidates.size() > maxCandidates) {
+                prune(now);
+            }
+        }
+        candidate.lastSeen = now;
+    }
+
+    // --- CONSULTAS ---
+    public List<TrendingScoreResponse> getTrending(TrendWindow window, String network, int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be at least 1");
+        }
+        long now = clock.millis();
+        String sm = network == null || network.isBlank() ? null : normalize(network);
+        List<TrendingScoreResponse> ranking = new ArrayList<>();
+        candidates.forEach((key, candidate) -> {
+            String sketchKey = sm == null ? key : networkKey(sm, key);
+            long current = estimate(window, sketchKey, now, 0);
+            if (current == 0) {
+                return;
+            }
+            long previous = estimate(window, sketchKey, now, 1);
+            ranking.add(TrendingScoreResponse.builder()
+                    .topic(candidate.topic)
+                    .socialMedia(sm)
+                    .window(window.label())
+                    .mentions(current)
+                    .previousMentions(previous)
+                    .velocity(Math.round((current - previous) * 10000.0 / window.minutes()) / 10000.0)
+                    .build());
+        });
+        ranking.sort(Comparator.comparing(TrendingScoreResponse::getVelocity).reversed()
+                .thenComparing(Comparator.comparing(TrendingScoreResponse::getMentions).reversed()));
+        List<TrendingScoreResponse> top = ranking.subList(0, Math.min(limit, ranking.size()));
+        for (int i = 0; i < top.size(); i++) {
+            top.get(i).setRank(i + 1);
+        }
+        return List.copyOf(top);
+    }
+
+    public int candidateCount() {
+        return candidates.size();
+    }
+
+    // --- INSTANTÁNEAS ---
+    // Guarda el top de cada ventana; la red social registrada es la que más aporta al tema
+    @Scheduled(fixedRateString = "${scoresense.trending.snapshot-rate-ms:300000}",
+            initialDelayString = "${scoresense.trending.snapshot-rate-ms:300000}")
+    public void persistSnapshot() {
+        long now = clock.millis();
+        LocalDateTime takenAt = LocalDateTime.now(clock);
+        List<TrendingTopic> rows = new ArrayList<>();
+        for (TrendWindow window : TrendWindow.values()) {
+            for (TrendingScoreResponse score : getTrending(window, null, snapshotSize)) {
+                TrendingTopic row = new TrendingTopic();
+                row.setTopic(score.getTopic());
+                row.setSocialMedia(dominantNetwork(window, normalize(score.getTopic()), now));
+                row.setCreatedAt(takenAt);
+                row.setTimeWindow(window.label());
+                row.setMentions(score.getMentions());
+                row.setVelocity(score.getVelocity());
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty()) {
+            trendingTopicRepository.saveAll(rows);
+        }
+    }
+
+    private String dominantNetwork(TrendWindow window, String key, long now) {
+        String best = "all";
+        long bestCount = 0;
+        for (String sm : socialMedia) {
+            long count = estimate(window, networkKey(sm, key), now, 0);
+            if (count > bestCount) {
+                best = sm;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    private void increment(String key, long now) {
+        int[] indexes = minutes.sketchIndexes(key);
+        minutes.add(indexes, now);
+        hours.add(indexes, now);
+    }
+
+    // offset 0 = ventana actual, 1 = la anterior del mismo largo
+    private long estimate(TrendWindow window, String key, long now, int offset) {
+        TimeBuckets buckets = window.hourly ? hours : minutes;
+        long last = buckets.epoch(now) - (long) offset * window.buckets;
+        return buckets.estimate(buckets.sketchIndexes(key), last - window.buckets + 1, last);
+    }
+
+    // Descarta los candidatos con menos menciones en la última hora (y los inactivos > 24 h)
+    // hasta dejar un 10% de margen, así la poda no se repite en cada tema nuevo.
+    private synchronized void prune(long now) {
+        if (candidates.size() <= maxCandidates) {
+            return;
+        }
+        long staleBefore = now - 24 * HOUR;
+        candidates.values().removeIf(c -> c.lastSeen < staleBefore);
+        int target = maxCandidates - Math.max(1, maxCandidates / 10);
+        if (candidates.size() <= target) {
+            return;
+        }
+        List<Map.Entry<String, Long>> scored = new ArrayList<>(candidates.size());
+        for (String key : candidates.keySet()) {
+            scored.add(Map.entry(key, estimate(TrendWindow.ONE_HOUR, key, now, 0)));
+        }
+        scored.sort(Map.Entry.comparingByValue());
+        for (int i = 0; i < scored.size() - target; i++) {
+            candidates.remove(scored.get(i).getKey());
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String networkKey(String network, String key) {
+        return network + '|' + key;
+    }
+
+    private static final class Candidate {
+
+        private final String topic;
+        private volatile long lastSeen;
+
+        Candidate(String topic) {
+            this.topic = topic;
+        }
+    }
+
+    // Anillo de sketches, uno por unidad de tiempo; un slot se limpia al reutilizarse
+    private static final class TimeBuckets {
+
+        private final long unitMillis;
+        private final Slot[] slots;
+
+        TimeBuckets(long unitMillis, int size) {
+            this.unitMillis = unitMillis;
+            this.slots = new Slot[size];
+            for (int i = 0; i < size; i++) {
+                slots[i] = new Slot();
+            }
+        }
+
+        long epoch(long millis) {
+            return millis / unitMillis;
+        }
+
+        int[] sketchIndexes(String key) {
+            return slots[0].sketch.indexes(key);
+        }
+
+        void add(int[] indexes, long millis) {
+            long epoch = epoch(millis);
+            Slot slot = slots[(int) (epoch % slots.length)];
+            if (slot.epoch != epoch) {
+                synchronized (slot) {
+                    if (slot.epoch != epoch) {
+                        slot.sketch.clear();
+                        slot.epoch = epoch;
+                    }
+                }
+            }
+            slot.sketch.add(indexes, 1);
+        }
+
+        // Suma por fila los slots del rango [from, to] y toma el mínimo entre filas
+        long estimate(int[] indexes, long from, long to) {
+            long[] rows = new long[indexes.length];
+            for (long e = Math.max(from, to - slots.length + 1); e <= to; e++) {
+                Slot slot = slots[(int) (Math.floorMod(e, (long) slots.length))];
+                if (slot.epoch != e) {
+                    continue;
+                }
+                for (int r = 0; r < indexes.length; r++) {
+                    rows[r] += slot.sketch.cell(indexes[r]);
+                }
+            }
+            long min = Long.MAX_VALUE;
+            for (long row : rows) {
+                min = Math.min(min, row);
+            }
+            return min;
+        }
+    }
+
+    private static final class Slot {
+
+        private volatile long epoch = -1;
+        private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    }
+}
@@ -24,6 +24,7 @@ public class TrendingTopicService {
         this.trendingTopicRepository = trendingTopicRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<TrendingTopicResponse> getAll() {
         return trendingTopicRepository.findAll()
                 .stream()
@@ -31,6 +32,7 @@ public class TrendingTopicService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public TrendingTopicResponse getById(Long id) {
         TrendingTopic topic = trendingTopicRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("TrendingTopic", "id", id));
@@ -65,6 +67,7 @@ public class TrendingTopicService {
         trendingTopicRepository.delete(topic);
     }
 
+    @Transactional(readOnly = true)
     public Page<TrendingTopicResponse> getAllPaged(Pageable pageable) {
         return trendingTopicRepository.findAll(pageable)
                 .map(this::toResponse);
@@ -76,6 +79,9 @@ public class TrendingTopicService {
                 .socialMedia(topic.getSocialMedia())
                 .topic(topic.getTopic())
                 .createdAt(topic.getCreatedAt())
+                .timeWindow(topic.getTimeWindow())
+                .mentions(topic.getMentions())
+                .velocity(topic.getVelocity())
                 .build();
     }
 }
\ No newline at end of file
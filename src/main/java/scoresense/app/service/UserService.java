@@ -2,22 +2,26 @@ package scoresense.app.service;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import scoresense.app.config.CacheConfig;
 import scoresense.app.dto.UserRequest;
 import scoresense.app.dto.UserResponse;
 import scoresense.app.exception.ResourceNotFoundException;
 import scoresense.app.mapper.UserMapper;
 import scoresense.app.model.RoleEntity;
 import scoresense.app.model.User;
-import scoresense.app.repository.RoleRepository;
 import scoresense.app.repository.UserRepository;
 
 @Service
@@ -26,10 +30,16 @@ import scoresense.app.repository.UserRepository;
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private final ReferenceDataService referenceDataService;
     private final PasswordEncoder passwordEncoder;
 
+    // Se cachea la entidad (con su rol EAGER ya cargado) y no un User de Spring Security:
+    // este último implementa CredentialsContainer y ProviderManager borraría el hash de la
+    // instancia compartida al terminar cada autenticación.
+    // Sin readOnly a propósito: el login siempre lee del primario, un usuario recién creado
+    // todavía puede no existir en la réplica.
     @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Loads user details required by Spring Security for authentication.
         return userRepository.findByUsername(username)
@@ -37,6 +47,7 @@ public class UserService implements UserDetailsService {
     }
 
     // --- CRUD ---
+    @Transactional(readOnly = true)
     public List<UserResponse> getAll() {
         return userRepository.findAll()
                 .stream()
@@ -44,6 +55,13 @@ public class UserService implements UserDetailsService {
                 .collect(Collectors.toList());
     }
 
+    // Streaming (?stream=true): el Stream se consume dentro de la transacción de JsonArrayStreamer
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<UserResponse> streamAll() {
+        return userRepository.streamAllResponses();
+    }
+
+    @Transactional(readOnly = true)
     public UserResponse getById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
@@ -53,8 +71,7 @@ public class UserService implements UserDetailsService {
     public UserResponse create(UserRequest req) {
         RoleEntity role = null;
         if (req.getRoleId() != null) {
-            role = roleRepository.findById(req.getRoleId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Role", "id", req.getRoleId()));
+            role = referenceDataService.getRole(req.getRoleId());
         }
 
         User user = UserMapper.toEntity(req, role);
@@ -66,14 +83,15 @@ public class UserService implements UserDetailsService {
         return UserMapper.toResponse(savedUser);
     }
 
+    // El username puede cambiar en la actualización, por eso se vacía todo el caché
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public UserResponse update(Long id, UserRequest req) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
         RoleEntity role = existingUser.getRole();
         if (req.getRoleId() != null) {
-            role = roleRepository.findById(req.getRoleId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Role", "id", req.getRoleId()));
+            role = referenceDataService.getRole(req.getRoleId());
         }
 
         UserMapper.copyToEntity(req, existingUser, role);
@@ -87,6 +105,7 @@ public class UserService implements UserDetailsService {
         return UserMapper.toResponse(updatedUser);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
     public void delete(Long id) {
         if (!userRepository.existsById(id)) {
             throw new ResourceNotFoundException("User", "id", id);
@@ -0,0 +1,224 @@
+package scoresense.app.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import scoresense.app.dto.Poll_voteRequest;
+import scoresense.app.dto.VoteIngestionStats;
+import scoresense.app.exception.ResourceNotFoundException;
+import scoresense.app.model.Poll_vote;
+import scoresense.app.repository.PollRepository;
+import scoresense.app.repository.Poll_voteRepository;
+import scoresense.app.repository.UserRepository;
+
+// Ingesta de votos de alto volumen.
+// Los votos se validan contra una caché de encuestas/usuarios existentes, se encolan en un
+// buffer acotado y un único hilo los guarda por lotes (un INSERT por lote vía JDBC batching).
+// En este camino cada usuario vota una sola vez por encuesta: los repetidos se descartan.
+@Service
+public class VoteIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteIngestionService.class);
+
+    private final Poll_voteRepository poll_voteRepository;
+    private final PollRepository pollRepository;
+    private final UserRepository userRepository;
+    private final PollTallyService pollTallyService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final BlockingQueue<PendingVote> queue;
+
+    // Solo se cachean IDs que existen; un ID desconocido se vuelve a consultar
+    private final Set<Long> knownPolls = ConcurrentHashMap.newKeySet();
+    private final Set<Long> knownUsers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public VoteIngestionService(Poll_voteRepository poll_voteRepository, PollRepository pollRepository,
+            UserRepository userRepository, PollTallyService pollTallyService,
+            PlatformTransactionManager transactionManager,
+            @Value("${scoresense.votes.ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${scoresense.votes.ingest.batch-size:500}") int batchSize,
+            @Value("${scoresense.votes.ingest.offer-timeout-ms:100}") long offerTimeoutMs) {
+        this.poll_voteRepository = poll_voteRepository;
+        this.pollRepository = pollRepository;
+        this.userRepository = userRepository;
+        this.pollTallyService = pollTallyService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "vote-ingestion");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // Al apagar se deja de aceptar y se vacía lo pendiente antes de salir
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // --- ENCOLADO ---
+    public void submit(Poll_voteRequest req) {
+        ensureExists(knownPolls, req.getPollId(), "Poll", pollRepository::existsById);
+        ensureExists(knownUsers, req.getUserId(), "User", userRepository::existsById);
+        PendingVote vote = new PendingVote(req.getPollId(), req.getUserId(), req.getOptionSelected());
+        boolean queued;
+        try {
+            queued = queue.offer(vote, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            rejected.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Vote queue is full, retry later");
+        }
+        accepted.incrementAndGet();
+    }
+
+    public VoteIngestionStats getStats() {
+        return VoteIngestionStats.builder()
+                .queued(queue.size())
+                .queueCapacity(queue.size() + queue.remainingCapacity())
+                .accepted(accepted.get())
+                .rejected(rejected.get())
+                .inserted(inserted.get())
+                .duplicates(duplicates.get())
+                .failed(failed.get())
+                .batches(batches.get())
+                .build();
+    }
+
+    // En una transacción de lectura-escritura: con réplica, una encuesta recién creada ya está en el primario
+    private void ensureExists(Set<Long> known, Long id, String resource, Predicate<Long> exists) {
+        if (known.contains(id)) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> exists.test(id)))) {
+            throw new ResourceNotFoundException(resource, "id", id);
+        }
+        known.add(id);
+    }
+
+    // --- ESCRITURA POR LOTES ---
+    private void flushLoop() {
+        List<PendingVote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            } catch (InterruptedException e) {
+                // stop(): se sigue vaciando la cola sin esperar
+                queue.drainTo(batch, batchSize);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingVote> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+        } catch (RuntimeException e) {
+            // Un voto inválido (p. ej. encuesta borrada) no debe tirar todo el lote
+            log.warn("Vote batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingVote vote : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(vote)));
+                } catch (RuntimeException single) {
+                    failed.incrementAndGet();
+                    knownPolls.remove(vote.pollId());
+                    knownUsers.remove(vote.userId());
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingVote> batch) {
+        // Un voto por usuario y encuesta: se descartan repetidos dentro del lote y ya guardados
+        Map<Long, Set<Long>> usersByPoll = new HashMap<>();
+        List<PendingVote> fresh = new ArrayList<>(batch.size());
+        for (PendingVote vote : batch) {
+            if (usersByPoll.computeIfAbsent(vote.pollId(), id -> new HashSet<>()).add(vote.userId())) {
+                fresh.add(vote);
+            }
+        }
+        Map<Long, Set<Long>> alreadyVoted = new HashMap<>();
+        usersByPoll.forEach((pollId, userIds) -> alreadyVoted.put(pollId,
+                new HashSet<>(poll_voteRepository.findUserIdsWhoVoted(pollId, userIds))));
+
+        List<PendingVote> counted = new ArrayList<>(fresh.size());
+        List<Poll_vote> votes = new ArrayList<>(fresh.size());
+        for (PendingVote vote : fresh) {
+            if (alreadyVoted.get(vote.pollId()).contains(vote.userId())) {
+                continue;
+            }
+            counted.add(vote);
+            Poll_vote entity = new Poll_vote();
+            entity.setPoll(pollRepository.getReferenceById(vote.pollId()));
+            entity.setUser(userRepository.getReferenceById(vote.userId()));
+            entity.setOptionSelected(vote.option());
+            votes.add(entity);
+        }
+        poll_voteRepository.saveAll(votes);
+        poll_voteRepository.flush();
+
+        int skipped = batch.size() - votes.size();
+        AfterCommit.run(() -> {
+            counted.forEach(v -> pollTallyService.recordVote(v.pollId(), v.option()));
+            inserted.addAndGet(votes.size());
+            duplicates.addAndGet(skipped);
+            batches.incrementAndGet();
+        });
+    }
+
+    private record PendingVote(Long pollId, Long userId, String option) {
+    }
+}
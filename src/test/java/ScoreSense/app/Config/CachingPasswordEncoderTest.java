@@ -0,0 +1,86 @@
+package ScoreSense.app.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import scoresense.app.config.CachingPasswordEncoder;
+
+public class CachingPasswordEncoderTest {
+
+    private final CountingEncoder bcrypt = new CountingEncoder(new BCryptPasswordEncoder(4));
+    private final CachingPasswordEncoder encoder = new CachingPasswordEncoder(bcrypt, 100, Duration.ofMinutes(5));
+
+    @Test
+    public void testSuccessfulCheckIsServedFromCache() {
+        String hash = encoder.encode("secreto");
+
+        assertTrue(encoder.matches("secreto", hash));
+        assertTrue(encoder.matches("secreto", hash));
+
+        assertEquals(1, bcrypt.checks);
+        assertEquals(1, encoder.verifiedEntries());
+    }
+
+    @Test
+    public void testWrongPasswordIsNeverServedFromCache() {
+        String hash = encoder.encode("secreto");
+        assertTrue(encoder.matches("secreto", hash));
+
+        assertFalse(encoder.matches("Secreto", hash));
+        assertFalse(encoder.matches("secreto ", hash));
+
+        assertEquals(3, bcrypt.checks);
+    }
+
+    @Test
+    public void testChangingTheHashInvalidatesTheCachedEntry() {
+        String oldHash = encoder.encode("secreto");
+        assertTrue(encoder.matches("secreto", oldHash));
+
+        String newHash = encoder.encode("nueva");
+
+        assertFalse(encoder.matches("secreto", newHash));
+        assertTrue(encoder.matches("nueva", newHash));
+        assertEquals(3, bcrypt.checks);
+    }
+
+    @Test
+    public void testFailedChecksAreNotCached() {
+        String hash = encoder.encode("secreto");
+
+        assertFalse(encoder.matches("incorrecta", hash));
+        assertFalse(encoder.matches("incorrecta", hash));
+
+        assertEquals(2, bcrypt.checks);
+        assertEquals(0, encoder.verifiedEntries());
+    }
+
+    // Cuenta las verificaciones que llegan al BCrypt real
+    private static final class CountingEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder delegate;
+        private int checks;
+
+        CountingEncoder(PasswordEncoder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            checks++;
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ScoreSense.app.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import scoresense.app.config.QueryCountFilter;
+import scoresense.app.config.QueryCountInspector;
+
+public class QueryCountFilterTest {
+
+    private static final String SELECT_TEAM = "select t.team_id, t.name from teams t where t.team_id=?";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    public void testRepeatedStatementFailsInTestMode() {
+        QueryCountFilter filter = new QueryCountFilter(registry, 30, 10, true);
+
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), statements(12, false)));
+
+        assertTrue(error.getMessage().contains("n_plus_one"));
+        assertTrue(error.getMessage().contains("x12"));
+    }
+
+    @Test
+    public void testBudgetViolationIsCountedWithoutFailing() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(registry, 5, 10, false);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), statements(8, true));
+
+        assertEquals(1.0, registry.get("scoresense.sql.budget.violations")
+                .tag("reason", "statement_budget").counter().count());
+        assertEquals(8.0, registry.get("scoresense.http.sql.statements").summary().totalAmount());
+    }
+
+    @Test
+    public void testWithinBudgetPasses() throws Exception {
+        QueryCountFilter filter = new QueryCountFilter(registry, 30, 10, true);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), statements(9, false));
+
+        assertTrue(registry.find("scoresense.sql.budget.violations").counters().isEmpty());
+    }
+
+    // count sentencias; distinct = true usa un texto SQL distinto para cada una
+    private FilterChain statements(int count, boolean distinct) {
+        return (req, res) -> {
+            for (int i = 0; i < count; i++) {
+                inspector.inspect(distinct ? SELECT_TEAM + " /* " + i + " */" : SELECT_TEAM);
+            }
+        };
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/matches");
+    }
+}
@@ -0,0 +1,103 @@
+package ScoreSense.app.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import scoresense.app.exception.InvalidCursorException;
+import scoresense.app.repository.KeysetCursor;
+
+public class KeysetCursorTest {
+
+    // Los mismos Sort que MatchService y NewsService
+    private static final Sort MATCH_SORT = Sort.by(Sort.Direction.DESC, "matchDate", "matchId");
+    private static final Sort NEWS_SORT = Sort.by(Sort.Direction.DESC, "publishDate", "newsId");
+
+    @Test
+    public void testRoundTripKeepsKeysAndTypes() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("matchDate", LocalDate.of(2025, 5, 1));
+        keys.put("matchId", 42L);
+
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition decoded = (KeysetScrollPosition) KeysetCursor.decode(cursor, MATCH_SORT);
+
+        assertEquals(keys, decoded.getKeys());
+        assertTrue(decoded.scrollsForward());
+    }
+
+    @Test
+    public void testRoundTripWithTimestampAndInteger() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("publishDate", LocalDateTime.of(2025, 5, 1, 20, 30, 15));
+        keys.put("newsId", 7);
+
+        String cursor = KeysetCursor.encode(ScrollPosition.forward(keys));
+
+        assertEquals(keys, ((KeysetScrollPosition) KeysetCursor.decode(cursor, NEWS_SORT)).getKeys());
+    }
+
+    @Test
+    public void testMissingCursorStartsFromTheBeginning() {
+        assertTrue(((KeysetScrollPosition) KeysetCursor.decode(null, MATCH_SORT)).isInitial());
+        assertTrue(((KeysetScrollPosition) KeysetCursor.decode("  ", MATCH_SORT)).isInitial());
+    }
+
+    @Test
+    public void testInitialPositionHasNoCursor() {
+        assertNull(KeysetCursor.encode(ScrollPosition.offset()));
+    }
+
+    @Test
+    public void testNullKeyIsRejectedWhenEncoding() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("publishDate", null);
+        keys.put("newsId", 7L);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> KeysetCursor.encode(ScrollPosition.forward(keys)));
+
+        assertTrue(error.getMessage().contains("'publishDate' is null"), error.getMessage());
+    }
+
+    @Test
+    public void testGarbageCursorIsInvalid() {
+        assertInvalid("not base64!");
+        assertInvalid(raw("matchDate"));
+        assertInvalid(raw("matchDate|D|yesterday\nmatchId|L|42"));
+        assertInvalid(raw("matchDate|X|2025-05-01\nmatchId|L|42"));
+    }
+
+    @Test
+    public void testCursorFromAnotherListIsInvalid() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("publishDate", LocalDateTime.of(2025, 5, 1, 20, 30));
+        keys.put("newsId", 7L);
+
+        assertInvalid(KeysetCursor.encode(ScrollPosition.forward(keys)));
+    }
+
+    private static void assertInvalid(String cursor) {
+        InvalidCursorException error = assertThrows(InvalidCursorException.class,
+                () -> KeysetCursor.decode(cursor, MATCH_SORT));
+
+        assertEquals("Invalid cursor", error.getMessage());
+    }
+
+    private static String raw(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
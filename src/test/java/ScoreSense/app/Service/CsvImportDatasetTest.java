@@ -0,0 +1,157 @@
+package ScoreSense.app.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import scoresense.app.service.CsvImportDataset;
+
+public class CsvImportDatasetTest {
+
+    @Test
+    public void testHeaderInAnyOrderIsValid() {
+        assertNull(CsvImportDataset.PLAYERS.checkHeader(
+                List.of("team", "name", "position", "age", "nationality", "height", "weight")));
+    }
+
+    @Test
+    public void testOptionalColumnsMayBeMissing() {
+        assertNull(CsvImportDataset.MATCHES.checkHeader(List.of("match_date", "home_team", "away_team")));
+        assertNull(CsvImportDataset.PLAYER_STATS.checkHeader(
+                List.of("match_date", "home_team", "away_team", "player", "team", "goals")));
+    }
+
+    @Test
+    public void testMissingRequiredColumnIsRejected() {
+        String error = CsvImportDataset.MATCHES.checkHeader(List.of("match_date", "home_team", "home_score"));
+
+        assertTrue(error.startsWith("missing column 'away_team'"), error);
+    }
+
+    @Test
+    public void testUnknownColumnIsRejected() {
+        String error = CsvImportDataset.MATCHES.checkHeader(List.of("match_date", "home_team", "away_team", "stadium"));
+
+        assertTrue(error.startsWith("unknown column 'stadium', expected match_date,home_team"), error);
+    }
+
+    @Test
+    public void testDuplicateColumnIsRejected() {
+        String error = CsvImportDataset.MATCHES.checkHeader(
+                List.of("match_date", "home_team", "away_team", "home_team"));
+
+        assertEquals("duplicate column 'home_team'", error);
+    }
+
+    @Test
+    public void testStagingIsAllTextInDeclaredOrder() {
+        assertEquals("CREATE TEMP TABLE import_rows (row_no bigint GENERATED ALWAYS AS IDENTITY, "
+                + "match_date text, home_team text, away_team text, home_score text, away_score text, referee text"
+                + ") ON COMMIT DROP", CsvImportDataset.MATCHES.createStaging());
+    }
+
+    @Test
+    public void testCopyFollowsTheFileHeader() {
+        assertEquals("COPY import_rows (away_team, match_date, home_team) FROM STDIN WITH (FORMAT csv, HEADER)",
+                CsvImportDataset.MATCHES.copy(List.of("away_team", "match_date", "home_team")));
+    }
+
+    @Test
+    public void testCheckValidatesEveryColumn() {
+        String check = CsvImportDataset.PLAYERS.check();
+
+        assertTrue(check.startsWith("CREATE TEMP TABLE import_checked ON COMMIT DROP AS WITH t AS"), check);
+        assertTrue(check.contains("p AS MATERIALIZED"), check);
+        assertTrue(check.contains("WHEN name IS NULL THEN 'name is required'"), check);
+        assertTrue(check.contains("WHEN length(nationality) > 30 THEN"), check);
+        assertTrue(check.contains("WHEN age_text IS NOT NULL AND age IS NULL THEN 'age must be a whole number'"), check);
+        assertTrue(check.contains("WHEN age NOT BETWEEN 15 AND 50 THEN 'age must be between 15 and 50'"), check);
+        assertTrue(check.contains("WHEN team_id IS NULL THEN 'team not found: ' || team"), check);
+        assertTrue(check.contains("PARTITION BY check_error IS NULL, lower(name), team_id ORDER BY row_no"), check);
+    }
+
+    @Test
+    public void testCheckParsesDatesStrictly() {
+        String check = CsvImportDataset.MATCHES.check();
+
+        assertTrue(check.contains("match_date AS match_date_text"), check);
+        assertTrue(check.contains("to_char("), check);
+        assertTrue(check.contains("'match_date must be a date (yyyy-mm-dd)'"), check);
+        // Marcador opcional: sin chequeo de obligatorio ni de rango
+        assertTrue(!check.contains("home_score is required") && !check.contains("home_score NOT BETWEEN"), check);
+    }
+
+    @Test
+    public void testOnlyValidRowsAreMarkedOrInserted() {
+        for (CsvImportDataset dataset : CsvImportDataset.values()) {
+            assertTrue(dataset.markExisting().startsWith("UPDATE import_checked c SET error = '"), dataset.name());
+            assertTrue(dataset.markExisting().contains("WHERE error IS NULL AND EXISTS ("), dataset.name());
+            assertTrue(dataset.insert().startsWith("INSERT INTO " + dataset.getTable() + " ("), dataset.name());
+            assertTrue(dataset.insert().endsWith(" FROM import_checked WHERE error IS NULL ORDER BY row_no"),
+                    dataset.name());
+        }
+    }
+
+    @Test
+    public void testInsertColumnsMatchSelectList() {
+        for (CsvImportDataset dataset : CsvImportDataset.values()) {
+            String insert = dataset.insert();
+            String columns = insert.substring(insert.indexOf('(') + 1, insert.indexOf(')'));
+            String select = insert.substring(insert.indexOf(" SELECT ") + 8, insert.indexOf(" FROM "));
+
+            assertEquals(split(columns).size(), split(select).size(), insert);
+        }
+    }
+
+    // Detecta errores al concatenar: paréntesis y comillas de cada sentencia deben cerrar
+    @Test
+    public void testGeneratedSqlIsBalanced() {
+        for (CsvImportDataset dataset : CsvImportDataset.values()) {
+            for (String sql : List.of(dataset.createStaging(), dataset.check(), dataset.markExisting(),
+                    dataset.insert())) {
+                assertBalanced(sql);
+            }
+        }
+    }
+
+    private static void assertBalanced(String sql) {
+        int depth = 0;
+        boolean quoted = false;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')') {
+                depth--;
+                assertTrue(depth >= 0, sql);
+            }
+        }
+        assertTrue(!quoted && depth == 0, sql);
+    }
+
+    // Separa por comas fuera de paréntesis
+    private static List<String> split(String list) {
+        List<String> items = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < list.length(); i++) {
+            char c = list.charAt(i);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                items.add(list.substring(start, i).strip());
+                start = i + 1;
+            }
+        }
+        items.add(list.substring(start).strip());
+        return items;
+    }
+}
@@ -0,0 +1,136 @@
+package ScoreSense.app.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import scoresense.app.dto.LiveMatchResponse;
+import scoresense.app.dto.MatchEventRequest;
+import scoresense.app.dto.PlayerStatsResponse;
+import scoresense.app.model.Match;
+import scoresense.app.model.Player;
+import scoresense.app.model.Team;
+import scoresense.app.repository.MatchEventRepository;
+import scoresense.app.repository.MatchRepository;
+import scoresense.app.repository.PlayerRepository;
+import scoresense.app.repository.PlayerStatsRepository;
+import scoresense.app.repository.TeamRepository;
+import scoresense.app.service.LiveMatchService;
+import scoresense.app.service.MatchBroadcastService;
+import scoresense.app.service.StandingsService;
+
+// Sin start(): los eventos quedan en la cola y solo se prueba el estado en memoria
+public class LiveMatchServiceTest {
+
+    private static final Long MATCH_ID = 1L;
+    private static final Long HOME_ID = 10L;
+    private static final Long AWAY_ID = 20L;
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final PlayerRepository playerRepository = mock(PlayerRepository.class);
+
+    private final LiveMatchService liveMatchService = new LiveMatchService(matchRepository,
+            mock(MatchEventRepository.class), playerRepository, mock(PlayerStatsRepository.class),
+            mock(TeamRepository.class), mock(StandingsService.class), mock(MatchBroadcastService.class),
+            mock(PlatformTransactionManager.class), 100, 50, 100);
+
+    @BeforeEach
+    public void setUp() {
+        Team home = team(HOME_ID);
+        Team away = team(AWAY_ID);
+        Match match = new Match();
+        match.setMatchId(MATCH_ID);
+        match.setHomeTeam(home);
+        match.setAwayTeam(away);
+        match.setStatus(Match.Status.SCHEDULED);
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.of(match));
+        player(100L, home);
+        player(101L, home);
+        player(200L, away);
+    }
+
+    @Test
+    public void testOwnGoalCountsForTheOtherTeam() {
+        LiveMatchResponse state = submit("OWN_GOAL", 12, 100L, null);
+
+        assertEquals(0, state.getHomeScore());
+        assertEquals(1, state.getAwayScore());
+
+        state = submit("GOAL", 30, 200L, null);
+
+        assertEquals(0, state.getHomeScore());
+        assertEquals(2, state.getAwayScore());
+    }
+
+    @Test
+    public void testSecondYellowIsASendingOff() {
+        submit("YELLOW_CARD", 20, 200L, null);
+        submit("YELLOW_CARD", 70, 200L, null);
+        LiveMatchResponse state = submit("FULL_TIME", 90, null, null);
+
+        PlayerStatsResponse line = stats(state, 200L);
+        assertEquals(2, line.getYellowCards());
+        assertEquals(1, line.getRedCards());
+        assertEquals(70, line.getMinutesPlayed());
+    }
+
+    @Test
+    public void testSubstitutionSplitsMinutesPlayed() {
+        submit("SUBSTITUTION", 60, 100L, 101L);
+        LiveMatchResponse state = submit("FULL_TIME", 90, null, null);
+
+        assertEquals(60, stats(state, 100L).getMinutesPlayed());
+        assertEquals(30, stats(state, 101L).getMinutesPlayed());
+    }
+
+    @Test
+    public void testEventAfterFullTimeIsConflict() {
+        submit("GOAL", 10, 100L, null);
+        LiveMatchResponse state = submit("FULL_TIME", 90, null, null);
+
+        assertEquals(Match.Status.FINISHED.name(), state.getStatus());
+        ResponseStatusException error = assertThrows(ResponseStatusException.class,
+                () -> submit("GOAL", 91, 200L, null));
+        assertEquals(HttpStatus.CONFLICT, error.getStatusCode());
+        assertEquals(1, liveMatchService.getLive(MATCH_ID).getHomeScore());
+        assertEquals(0, liveMatchService.getLive(MATCH_ID).getAwayScore());
+    }
+
+    private LiveMatchResponse submit(String type, int minute, Long playerId, Long relatedPlayerId) {
+        MatchEventRequest req = new MatchEventRequest();
+        req.setType(type);
+        req.setMinute(minute);
+        req.setPlayerId(playerId);
+        req.setRelatedPlayerId(relatedPlayerId);
+        return liveMatchService.submit(MATCH_ID, req);
+    }
+
+    private static PlayerStatsResponse stats(LiveMatchResponse state, Long playerId) {
+        return state.getPlayerStats().stream()
+                .filter(line -> line.getPlayerId().equals(playerId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void player(Long id, Team team) {
+        Player player = new Player();
+        player.setPlayerId(id);
+        player.setTeam(team);
+        when(playerRepository.findById(id)).thenReturn(Optional.of(player));
+    }
+
+    private static Team team(Long id) {
+        Team team = new Team();
+        team.setTeamId(id);
+        return team;
+    }
+}
@@ -0,0 +1,114 @@
+package ScoreSense.app.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import scoresense.app.dto.SentimentSummaryResponse;
+import scoresense.app.repository.SentimentRepository;
+import scoresense.app.repository.TeamRepository;
+import scoresense.app.service.SentimentAggregationService;
+
+public class SentimentAggregationServiceTest {
+
+    private static final Long TEAM_ID = 7L;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-05-01T20:00:00Z"));
+
+    private final SentimentAggregationService sentiments = new SentimentAggregationService(
+            mock(SentimentRepository.class), mock(TeamRepository.class), mock(PlatformTransactionManager.class), clock);
+
+    @Test
+    public void testSourcesBeyondTheCapCountAsOther() {
+        for (int i = 0; i < 40; i++) {
+            sentiments.record(TEAM_ID, "blog-" + i, "positive", now());
+        }
+        sentiments.record(TEAM_ID, "BLOG-0", "negative", now());
+
+        SentimentSummaryResponse summary = sentiments.getSummary(TEAM_ID, Duration.ofHours(1));
+
+        assertEquals(41, summary.getTotal());
+        assertEquals(33, summary.getSources().size());
+        assertEquals(8, summary.getSources().get(0).getTotal());
+        assertEquals("other", summary.getSources().get(0).getSource());
+        assertEquals(33, sentiments.sourceCount());
+    }
+
+    @Test
+    public void testPruneDropsExpiredSources() {
+        sentiments.record(TEAM_ID, "twitter", "positive", now());
+        clock.advance(Duration.ofHours(20));
+        sentiments.record(TEAM_ID, "reddit", "neutral", now());
+        clock.advance(Duration.ofHours(5));
+
+        sentiments.prune();
+
+        assertEquals(1, sentiments.sourceCount());
+        assertEquals("reddit", sentiments.getSummary(TEAM_ID, Duration.ofHours(24)).getSources().get(0).getSource());
+    }
+
+    @Test
+    public void testParsesWindows() {
+        assertEquals(Duration.ofMinutes(15), SentimentAggregationService.parseWindow("15m"));
+        assertEquals(Duration.ofHours(24), SentimentAggregationService.parseWindow(" 24H "));
+    }
+
+    @Test
+    public void testBadWindowIsBadRequest() {
+        for (String window : new String[] { "", "h", "abc", "15s", "9999999999999999h", "99999999999999999999m" }) {
+            ResponseStatusException error = assertThrows(ResponseStatusException.class,
+                    () -> SentimentAggregationService.parseWindow(window), window);
+            assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        }
+        for (Duration window : new Duration[] { Duration.ZERO, Duration.ofMinutes(-5), Duration.ofHours(25),
+                SentimentAggregationService.parseWindow("99999999999999h") }) {
+            ResponseStatusException error = assertThrows(ResponseStatusException.class,
+                    () -> sentiments.getSummary(TEAM_ID, window));
+            assertEquals(HttpStatus.BAD_REQUEST, error.getStatusCode());
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
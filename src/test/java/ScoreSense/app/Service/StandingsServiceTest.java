@@ -0,0 +1,84 @@
+package ScoreSense.app.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import scoresense.app.dto.StandingResponse;
+import scoresense.app.model.League;
+import scoresense.app.model.Match;
+import scoresense.app.model.Team;
+import scoresense.app.repository.LeagueRepository;
+import scoresense.app.repository.MatchRepository;
+import scoresense.app.service.StandingsService;
+
+public class StandingsServiceTest {
+
+    private final LeagueRepository leagueRepository = mock(LeagueRepository.class);
+
+    private final StandingsService standingsService = new StandingsService(
+            mock(MatchRepository.class), leagueRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    public void testRecordMatchUpdatesTable() {
+        League league = league(1L);
+        Team aztecas = team(10L, "Club Aztecas", league);
+        Team halcones = team(20L, "Halcones", league);
+        Team toros = team(30L, "Toros", league);
+
+        standingsService.recordMatch(match(aztecas, halcones, 2, 0));
+        standingsService.recordMatch(match(halcones, toros, 1, 1));
+        standingsService.recordMatch(match(toros, aztecas, 3, 1));
+
+        List<StandingResponse> table = standingsService.getStandings(1L);
+
+        assertEquals(3, table.size());
+        assertEquals("Toros", table.get(0).getTeamName());
+        assertEquals(4, table.get(0).getPoints());
+        assertEquals("DW", table.get(0).getForm());
+        assertEquals("Club Aztecas", table.get(1).getTeamName());
+        assertEquals(0, table.get(1).getGoalDifference());
+        assertEquals(3, table.get(2).getPosition());
+    }
+
+    @Test
+    public void testMatchBetweenLeaguesIsIgnored() {
+        Team home = team(10L, "Club Aztecas", league(1L));
+        Team away = team(20L, "Visitantes FC", league(2L));
+
+        when(leagueRepository.existsById(1L)).thenReturn(true);
+
+        standingsService.recordMatch(match(home, away, 1, 0));
+
+        assertTrue(standingsService.getStandings(1L).isEmpty());
+    }
+
+    private static League league(Long id) {
+        League league = new League();
+        league.setLeagueId(id);
+        return league;
+    }
+
+    private static Team team(Long id, String name, League league) {
+        Team team = new Team();
+        team.setTeamId(id);
+        team.setName(name);
+        team.setLeague(league);
+        return team;
+    }
+
+    private static Match match(Team home, Team away, int homeScore, int awayScore) {
+        Match match = new Match();
+        match.setHomeTeam(home);
+        match.setAwayTeam(away);
+        match.setHomeScore(homeScore);
+        match.setAwayScore(awayScore);
+        return match;
+    }
+}
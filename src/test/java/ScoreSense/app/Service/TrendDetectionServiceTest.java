@@ -0,0 +1,109 @@
+package ScoreSense.app.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import scoresense.app.dto.TrendingScoreResponse;
+import scoresense.app.repository.TrendingTopicRepository;
+import scoresense.app.service.TrendDetectionService;
+import scoresense.app.service.TrendDetectionService.TrendWindow;
+
+public class TrendDetectionServiceTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-05-01T20:00:00Z"));
+
+    private final TrendDetectionService trends = new TrendDetectionService(
+            mock(TrendingTopicRepository.class), clock, 100, 10);
+
+    @Test
+    public void testRanksByVelocityAgainstPreviousWindow() {
+        mention("Final", "twitter", 10);
+        clock.advance(Duration.ofMinutes(5));
+        mention("Final", "twitter", 10);
+        mention("Penal", "tiktok", 8);
+
+        List<TrendingScoreResponse> live = trends.getTrending(TrendWindow.FIVE_MINUTES, null, 10);
+
+        assertEquals(2, live.size());
+        assertEquals("Penal", live.get(0).getTopic());
+        assertEquals(1.6, live.get(0).getVelocity());
+        assertEquals(10L, live.get(1).getMentions());
+        assertEquals(10L, live.get(1).getPreviousMentions());
+
+        List<TrendingScoreResponse> hour = trends.getTrending(TrendWindow.ONE_HOUR, "TWITTER", 10);
+        assertEquals(1, hour.size());
+        assertEquals(20L, hour.get(0).getMentions());
+    }
+
+    @Test
+    public void testCandidatesStayBounded() {
+        mention("Clasico", "twitter", 50);
+        for (int i = 0; i < 5000; i++) {
+            mention("topic-" + i, "twitter", 1);
+        }
+
+        assertTrue(trends.candidateCount() <= 100);
+        assertEquals("Clasico", trends.getTrending(TrendWindow.ONE_HOUR, null, 1).get(0).getTopic());
+    }
+
+    @Test
+    public void testBadQueryIsBadRequest() {
+        mention("Final", "twitter", 3);
+
+        ResponseStatusException limit = assertThrows(ResponseStatusException.class,
+                () -> trends.getTrending(TrendWindow.ONE_HOUR, null, -1));
+        ResponseStatusException window = assertThrows(ResponseStatusException.class,
+                () -> TrendWindow.fromLabel("2h"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, limit.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, window.getStatusCode());
+        assertEquals(TrendWindow.ONE_DAY, TrendWindow.fromLabel("24H"));
+    }
+
+    private void mention(String topic, String network, int times) {
+        for (int i = 0; i < times; i++) {
+            trends.recordMention(topic, network);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}